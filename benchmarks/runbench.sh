@@ -0,0 +1,11 @@
+#!/bin/bash
+# Build JSOFA and the benchmarks and run them with the gc profiler (allocation rate).
+# usage: runbench.sh [results file] [extra JMH options]
+# The default results file is the baseline that PRs are compared against.
+here=$(cd $(dirname $0) && pwd)
+results=${1:-$here/baseline.json}
+shift
+# The coverage check of the main build fails when the tests are skipped, so skip it too.
+(cd $here/.. && mvn -B -q install -DskipTests -Dmaven.clover.skip=true) || exit 1
+(cd $here && mvn -B -q package) || exit 1
+java -jar $here/target/benchmarks.jar -prof gc -rf json -rff $results "$@"
@@ -0,0 +1,161 @@
+/*
+ * $Id$
+ * 
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included 
+ * with this distribution in the LICENSE.txt file.  
+ *
+ */ 
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.AstromUpdater;
+import org.jastronomy.jsofa.EpochCache;
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.ObsType;
+import org.jastronomy.jsofa.JSOFA.ObservedPosition;
+import org.jastronomy.jsofa.JSOFA.ObservedPositionEO;
+import org.jastronomy.jsofa.JSOFA.SphericalCoordinate;
+import org.jastronomy.jsofa.JSOFAException;
+import org.jastronomy.jsofa.RefractionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the observed place astrometry functions, using the values from the JSOFA tests.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AstrometryBenchmark {
+
+    double rc = 2.71, dc = 0.174, pr = 1e-5, pd = 5e-6, px = 0.1, rv = 55.0;
+    double utc1 = 2456384.5, utc2 = 0.969254051, dut1 = 0.1550675;
+    double elong = -0.527800806, phi = -1.2345856, hm = 2738.0;
+    double xp = 2.47230737e-7, yp = 1.82640464e-6;
+    double phpa = 731.0, tc = 12.8, rh = 0.59, wl = 0.55;
+    double ob1 = 2.710085107986886201, ob2 = 0.1717653435758265198;
+
+    final Astrom astrom = new Astrom();
+
+    final AstromUpdater updater = new AstromUpdater(elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+
+    final EpochCache cache = new EpochCache();
+
+    final RefractionTable refraction = new RefractionTable(phpa, tc, rh, wl);
+
+    /* A target list for the array benchmarks. */
+    static final int TARGETS = 1000;
+    final double ri[] = new double[TARGETS], di[] = new double[TARGETS];
+    final double aob[] = new double[TARGETS], zob[] = new double[TARGETS], hob[] = new double[TARGETS],
+            dob[] = new double[TARGETS], rob[] = new double[TARGETS];
+
+    /* Seconds since utc2 for the tracking benchmarks, which step by 1 s per call. */
+    int step = 0;
+
+    @Setup
+    public void setup() throws JSOFAException {
+        JSOFA.jauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, astrom);
+        for (int i = 0; i < TARGETS; i++) {
+            ri[i] = rc + 0.001 * i;
+            di[i] = dc + 0.0005 * i;
+        }
+
+        /* Observed places of the targets, for the observed to CIRS benchmark. */
+        JSOFA.jauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+    }
+
+    @Benchmark
+    public Astrom apco13() throws JSOFAException {
+        JSOFA.jauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, astrom);
+        return astrom;
+    }
+
+    @Benchmark
+    public ObservedPositionEO atco13() throws JSOFAException {
+        return JSOFA.jauAtco13(rc, dc, pr, pd, px, rv,
+                utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl);
+    }
+
+    /** Many targets at one time, with the epoch dependent quantities remembered by an {@link EpochCache}. */
+    @Benchmark
+    public ObservedPositionEO atco13Cached() throws JSOFAException {
+        return cache.atco13(rc, dc, pr, pd, px, rv,
+                utc1, utc2, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl);
+    }
+
+    @Benchmark
+    public SphericalCoordinate atoi13() throws JSOFAException {
+        return JSOFA.jauAtoi13("R", ob1, ob2, utc1, utc2, dut1,
+                elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+    }
+
+    /** Tracking at one second intervals, recomputing everything each time. */
+    @Benchmark
+    public Astrom apco13Tracking() throws JSOFAException {
+        step = (step + 1) % 86400;
+        JSOFA.jauApco13(utc1, utc2 + step / 86400.0, dut1, elong, phi, hm, xp, yp,
+                phpa, tc, rh, wl, astrom);
+        return astrom;
+    }
+
+    /** Tracking at one second intervals with an {@link AstromUpdater}. */
+    @Benchmark
+    public Astrom apco13Updater() throws JSOFAException {
+        step = (step + 1) % 86400;
+        updater.update(utc1, utc2 + step / 86400.0, dut1);
+        return updater.getAstrom();
+    }
+
+    /** The target list one at a time with the scalar jauAtioq. */
+    @Benchmark
+    public double atioqScalar() {
+        double sum = 0.0;
+        for (int i = 0; i < TARGETS; i++) {
+            ObservedPosition o = JSOFA.jauAtioq(ri[i], di[i], astrom);
+            sum += o.zob;
+        }
+        return sum;
+    }
+
+    /** The target list with the array jauAtioq. */
+    @Benchmark
+    public double[] atioqArray() {
+        JSOFA.jauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+        return zob;
+    }
+
+    /** The target list back from observed RA,Dec with the array jauAtoiq. */
+    @Benchmark
+    public double[] atoiqArray() {
+        JSOFA.jauAtoiq(ObsType.RA_DEC, rob, dob, astrom, aob, zob);
+        return zob;
+    }
+
+    /** The target list with the refraction from a {@link RefractionTable}. */
+    @Benchmark
+    public double[] atioqTable() {
+        refraction.atioq(ri, di, astrom, aob, zob, hob, dob, rob);
+        return zob;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * $Id$
+ * 
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included 
+ * with this distribution in the LICENSE.txt file.  
+ *
+ */ 
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFAException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the Earth and planetary ephemerides.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EphemerisBenchmark {
+
+    /** TDB date as 2-part JD - not final so that the JIT cannot constant fold it. */
+    double date1 = 2400000.5, date2 = 53411.52501161;
+
+    final double pvh[][] = new double[2][3], pvb[][] = new double[2][3];
+
+    /* Dates for the many date planetary benchmarks, a day apart. */
+    static final int DATES = 1000;
+    final double dates1[] = new double[DATES], dates2[] = new double[DATES];
+    final double pvs[] = new double[48 * DATES];
+    final int status[] = new int[DATES];
+
+    {
+        for (int i = 0; i < DATES; i++) {
+            dates1[i] = date1;
+            dates2[i] = date2 + i;
+        }
+    }
+
+    @Benchmark
+    public double[][] epv00() {
+        JSOFA.jauEpv00(date1, date2, pvh, pvb);
+        return pvb;
+    }
+
+    /** All eight planets one at a time. */
+    @Benchmark
+    public double plan94() throws JSOFAException {
+        double sum = 0.0;
+        for (int np = 1; np <= 8; np++) {
+            sum += JSOFA.jauPlan94(date1, date2, np)[0][0];
+        }
+        return sum;
+    }
+
+    /** All eight planets in one call. */
+    @Benchmark
+    public double[] plan94All() {
+        JSOFA.jauPlan94(date1, date2, pvs, 0);
+        return pvs;
+    }
+
+    /** All eight planets at many dates, on the common pool. */
+    @Benchmark
+    public double[] plan94Dates() {
+        JSOFA.jauPlan94(dates1, dates2, pvs, status, java.util.concurrent.ForkJoinPool.commonPool());
+        return pvs;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * $Id$
+ * 
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included 
+ * with this distribution in the LICENSE.txt file.  
+ *
+ */ 
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.CalendarHMS;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
+import org.jastronomy.jsofa.JSOFAException;
+import org.jastronomy.jsofa.Sexagesimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for formatting and parsing angles and dates, with String.format and with {@link Sexagesimal}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    double ra = 2.345, dec = -0.5;
+    double utc1 = 2453750.5, utc2 = 0.892100694;
+    String text = "-11:30:22.6484";
+
+    final Sexagesimal fmt = new Sexagesimal(4);
+    final StringBuilder sb = new StringBuilder();
+    final int ihmsf[] = new int[4];
+
+    /** RA and Dec with jauA2tf, jauA2af and String.format. */
+    @Benchmark
+    public String raDecFormat() {
+        char s = JSOFA.jauA2tf(4, ra, ihmsf);
+        String r = String.format("%c%02d:%02d:%02d.%04d", s, ihmsf[0], ihmsf[1], ihmsf[2], ihmsf[3]);
+        s = JSOFA.jauA2af(4, dec, ihmsf);
+        return r + String.format(" %c%02d:%02d:%02d.%04d", s, ihmsf[0], ihmsf[1], ihmsf[2], ihmsf[3]);
+    }
+
+    /** RA and Dec into one StringBuilder. */
+    @Benchmark
+    public StringBuilder raDecSexagesimal() {
+        sb.setLength(0);
+        fmt.formatHours(ra, sb).append(' ');
+        return fmt.formatDegrees(dec, sb);
+    }
+
+    /** An ISO 8601 UTC with jauD2dtf and String.format. */
+    @Benchmark
+    public String isoFormat() throws JSOFAException {
+        CalendarHMS c = JSOFA.jauD2dtf("UTC", 4, utc1, utc2);
+        return String.format("%04d-%02d-%02dT%02d:%02d:%02d.%04d", c.iy, c.im, c.id,
+                c.ihmsf[0], c.ihmsf[1], c.ihmsf[2], c.ihmsf[3]);
+    }
+
+    /** An ISO 8601 UTC into a StringBuilder. */
+    @Benchmark
+    public StringBuilder isoSexagesimal() throws JSOFAException {
+        sb.setLength(0);
+        return fmt.formatDate(TimeScale.UTC, utc1, utc2, sb);
+    }
+
+    /** Hours, minutes and seconds split and parsed, then jauTf2a. */
+    @Benchmark
+    public double parseSplit() throws JSOFAException {
+        String f[] = text.substring(1).split(":");
+        return JSOFA.jauTf2a(text.charAt(0), Integer.parseInt(f[0]), Integer.parseInt(f[1]), Double.parseDouble(f[2]));
+    }
+
+    @Benchmark
+    public double parseSexagesimal() throws JSOFAException {
+        return Sexagesimal.parseHours(text, 0, text.length());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * $Id$
+ * 
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included 
+ * with this distribution in the LICENSE.txt file.  
+ *
+ */ 
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.CelestialIntermediatePole;
+import org.jastronomy.jsofa.JSOFA.CipInterpolator;
+import org.jastronomy.jsofa.JSOFA.FundamentalArguments;
+import org.jastronomy.jsofa.JSOFA.ICRFrame;
+import org.jastronomy.jsofa.JSOFA.NutationTerms;
+import org.jastronomy.jsofa.JSOFA.TruncatedNutation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the nutation and CIP X,Y series.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NutationBenchmark {
+
+    /** TT date as 2-part JD - not final so that the JIT cannot constant fold it. */
+    double date1 = 2400000.5, date2 = 53736.0;
+
+    CipInterpolator cip = CipInterpolator.forXys06a(2400000.5 + 53700.0, 2400000.5 + 53800.0);
+
+    double xys[] = new double[3];
+
+    /** A night of precession-nutation matrices at one minute intervals. */
+    double rbpn[] = new double[9 * 720];
+
+    /** Nutation truncated to 1 milliarcsecond. */
+    TruncatedNutation mas = new TruncatedNutation(1e-3 * JSOFA.DAS2R);
+
+    @Benchmark
+    public NutationTerms nut00a() {
+        return JSOFA.jauNut00a(date1, date2);
+    }
+
+    @Benchmark
+    public NutationTerms nut00aRecurrence() {
+        return JSOFA.jauNut00a(new FundamentalArguments(date1, date2), true);
+    }
+
+    @Benchmark
+    public NutationTerms nut00aTruncated() {
+        return mas.nut00a(date1, date2);
+    }
+
+    @Benchmark
+    public NutationTerms nut00b() {
+        return JSOFA.jauNut00b(date1, date2);
+    }
+
+    @Benchmark
+    public NutationTerms nut06a() {
+        return JSOFA.jauNut06a(date1, date2);
+    }
+
+    @Benchmark
+    public CelestialIntermediatePole xy06() {
+        return JSOFA.jauXy06(date1, date2);
+    }
+
+    @Benchmark
+    public CelestialIntermediatePole xy06Recurrence() {
+        return JSOFA.jauXy06(new FundamentalArguments(date1, date2), true);
+    }
+
+    @Benchmark
+    public double[] pnm06aNight() {
+        return JSOFA.jauPnm06a(date1, date2, 1.0 / 1440.0, 720, rbpn);
+    }
+
+    @Benchmark
+    public ICRFrame xys06a() {
+        return JSOFA.jauXys06a(date1, date2);
+    }
+
+    @Benchmark
+    public double[] xys06aInterpolated() {
+        return cip.xys(date1, date2, xys);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * $Id$
+ * 
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included 
+ * with this distribution in the LICENSE.txt file.  
+ *
+ */ 
+
+package org.jastronomy.jsofa.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jastronomy.jsofa.IsoDateParser;
+import org.jastronomy.jsofa.JSOFA;
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
+import org.jastronomy.jsofa.JSOFAException;
+import org.jastronomy.jsofa.TimeScales;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the time scale conversion chain.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeScaleBenchmark {
+
+    int iy = 2006, im = 1, id = 15, ihr = 21, imn = 24;
+    double sec = 37.5;
+    double utc1 = 2453750.5, utc2 = 0.892100694;
+
+    final JulianDate sink = new JulianDate(0.0, 0.0);
+
+    /* A column of UTC dates a minute apart for the bulk conversions. */
+    static final int DATES = 10000;
+    final double u1[] = new double[DATES], u2[] = new double[DATES], o1[] = new double[DATES], o2[] = new double[DATES];
+
+    /* The same dates as lines of ISO 8601 text, in a direct buffer and as Strings. */
+    final ByteBuffer log;
+    final String lines[] = new String[DATES];
+
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < DATES; i++) {
+            u1[i] = utc1;
+            u2[i] = utc2 + i / 1440.0;
+            lines[i] = String.format("2006-01-%02dT%02d:%02d:37.500,12.5", 15 + (1285 + i) / 1440, (1285 + i) / 60 % 24, (1285 + i) % 60);
+            sb.append(lines[i]).append('\n');
+        }
+        byte b[] = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        log = ByteBuffer.allocateDirect(b.length);
+        log.put(b).flip();
+    }
+
+    @Benchmark
+    public JulianDate dtf2d() throws JSOFAException {
+        return JSOFA.jauDtf2d("UTC", iy, im, id, ihr, imn, sec);
+    }
+
+    @Benchmark
+    public JulianDate utctai() throws JSOFAException {
+        return JSOFA.jauUtctai(utc1, utc2);
+    }
+
+    @Benchmark
+    public JulianDate taitt() {
+        return JSOFA.jauTaitt(utc1, utc2);
+    }
+
+    /** The whole chain from calendar UTC to TT. */
+    @Benchmark
+    public JulianDate dtf2dToTt() throws JSOFAException {
+        JulianDate utc = JSOFA.jauDtf2d("UTC", iy, im, id, ihr, imn, sec);
+        JulianDate tai = JSOFA.jauUtctai(utc.djm0, utc.djm1);
+        return JSOFA.jauTaitt(tai.djm0, tai.djm1);
+    }
+
+    /** UTC to TAI to TT to TDB, allocating each result. */
+    @Benchmark
+    public JulianDate utcToTdb() throws JSOFAException {
+        JulianDate tai = JSOFA.jauUtctai(utc1, utc2);
+        JulianDate tt = JSOFA.jauTaitt(tai.djm0, tai.djm1);
+        return JSOFA.jauTttdb(tt.djm0, tt.djm1, -0.000201);
+    }
+
+    /** UTC to TAI to TT to TDB, reusing one JulianDate. */
+    @Benchmark
+    public JulianDate utcToTdbSink() throws JSOFAException {
+        JSOFA.jauUtctai(utc1, utc2, sink);
+        JSOFA.jauTaitt(sink.djm0, sink.djm1, sink);
+        return JSOFA.jauTttdb(sink.djm0, sink.djm1, -0.000201, sink);
+    }
+
+    @Benchmark
+    public double dtdb() {
+        return JSOFA.jauDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0);
+    }
+
+    @Benchmark
+    public double dtdbCoarse() {
+        return JSOFA.jauDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0, true);
+    }
+
+    /** A column of UTC dates to TT one at a time. */
+    @Benchmark
+    public double[] utcToTtColumn() throws JSOFAException {
+        for (int i = 0; i < DATES; i++) {
+            JulianDate tai = JSOFA.jauUtctai(u1[i], u2[i]);
+            JulianDate tt = JSOFA.jauTaitt(tai.djm0, tai.djm1);
+            o1[i] = tt.djm0;
+            o2[i] = tt.djm1;
+        }
+        return o2;
+    }
+
+    /** Lines of ISO 8601 UTC split into fields and given to jauDtf2d. */
+    @Benchmark
+    public double[] isoSplit() throws JSOFAException {
+        for (int i = 0; i < DATES; i++) {
+            String f[] = lines[i].substring(0, lines[i].indexOf(',')).split("[-T:]");
+            JulianDate utc = JSOFA.jauDtf2d("UTC", Integer.parseInt(f[0]), Integer.parseInt(f[1]), Integer.parseInt(f[2]),
+                    Integer.parseInt(f[3]), Integer.parseInt(f[4]), Double.parseDouble(f[5]));
+            o1[i] = utc.djm0;
+            o2[i] = utc.djm1;
+        }
+        return o2;
+    }
+
+    /** The same lines parsed from a buffer with {@link IsoDateParser}. */
+    @Benchmark
+    public double[] isoParseLines() throws JSOFAException {
+        log.position(0);
+        IsoDateParser.parseLines(TimeScale.UTC, log, o1, o2, null);
+        return o2;
+    }
+
+    /** A column of UTC dates to TT with {@link TimeScales}. */
+    @Benchmark
+    public double[] utcToTtConvert() throws JSOFAException {
+        TimeScales.convert(TimeScale.UTC, TimeScale.TT, u1, u2, o1, o2);
+        return o2;
+    }
+}
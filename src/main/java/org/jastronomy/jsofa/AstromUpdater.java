@@ -0,0 +1,187 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.jastronomy.jsofa.JSOFA.jauApco13;
+import static org.jastronomy.jsofa.JSOFA.jauAper;
+import static org.jastronomy.jsofa.JSOFA.jauEra00;
+import static org.jastronomy.jsofa.JSOFA.jauRefco;
+import static org.jastronomy.jsofa.JSOFA.jauUtcut1;
+
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.RefCos;
+
+/**
+ * Maintains the star-independent astrometry parameters for a terrestrial observer
+ * who is tracking, i.e. needs {@link JSOFA#jauApco13} for a closely spaced sequence of times.
+ *
+ * <p>The parameters depend on time in two ways: the Earth rotation angle changes rapidly, whereas the Earth
+ * ephemeris, precession-nutation, CIO locator and the observer's geocentric position and velocity in the GCRS change slowly
+ * enough that they can be reused for a short time. {@link #update} therefore only calls {@link JSOFA#jauApco13} when the
+ * slow terms are older than the configured interval (or have been invalidated); otherwise it just updates the Earth rotation
+ * angle with {@link JSOFA#jauAper}, as would be done by hand using the SOFA "quick" functions. The refraction constants only
+ * depend upon the ambient conditions and are recalculated when those are changed with {@link #setAmbient}.
+ *
+ * <p>The error from reusing the slow terms is dominated by the change in the direction of the diurnal aberration and grows
+ * linearly with their age, at about 0.012 milliarcseconds per second in the observed position - so the default interval
+ * of {@value #DEFAULT_INTERVAL} seconds gives errors below 0.15 mas. An interval of zero gives results identical to
+ * {@link JSOFA#jauApco13}.
+ *
+ * <p>Instances are not thread safe - the {@link Astrom} they maintain is updated in place.
+ */
+public final class AstromUpdater {
+
+    /** The default maximum age of the slow terms (seconds). */
+    public static final double DEFAULT_INTERVAL = 10.0;
+
+    private final double elong, phi, hm;
+    private double xp, yp, phpa, tc, rh, wl;
+    private final double interval;
+
+    private final Astrom astrom = new Astrom();
+
+    /* UTC of the last full update, and the equation of the origins from it. */
+    private double utc1, utc2, eo;
+    private boolean valid = false;
+
+    /**
+     * Create an updater with the default interval.
+     *
+     *     @param elong   double      longitude (radians, east +ve)
+     *     @param phi     double      latitude (geodetic, radians)
+     *     @param hm      double      height above ellipsoid (m, geodetic)
+     *     @param xp      double      polar motion coordinates (radians)
+     *     @param yp      double      polar motion coordinates (radians)
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *
+     * @see JSOFA#jauApco13 for the details of the arguments.
+     */
+    public AstromUpdater(double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl)
+    {
+        this(elong, phi, hm, xp, yp, phpa, tc, rh, wl, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Create an updater.
+     *
+     *     @param elong   double      longitude (radians, east +ve)
+     *     @param phi     double      latitude (geodetic, radians)
+     *     @param hm      double      height above ellipsoid (m, geodetic)
+     *     @param xp      double      polar motion coordinates (radians)
+     *     @param yp      double      polar motion coordinates (radians)
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *     @param interval double     the maximum age of the slow terms (seconds)
+     *
+     * @see JSOFA#jauApco13 for the details of the arguments.
+     */
+    public AstromUpdater(double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl, double interval)
+    {
+        this.elong = elong;
+        this.phi = phi;
+        this.hm = hm;
+        this.xp = xp;
+        this.yp = yp;
+        this.phpa = phpa;
+        this.tc = tc;
+        this.rh = rh;
+        this.wl = wl;
+        this.interval = interval;
+    }
+
+    /**
+     * Bring the astrometry parameters up to date for the given time.
+     *
+     *     @param utc1    double      UTC as a 2-part...
+     *     @param utc2    double      ...quasi Julian Date
+     *     @param dut1    double      UT1-UTC (seconds)
+     *     @return        double      equation of the origins (ERA-GST), as at the last full update.
+     *
+     *  @throws JSOFAInternalError an internal error has occured
+     *  @throws JSOFAIllegalParameter unacceptable date.
+     *  @see JSOFA#jauApco13
+     */
+    public double update(double utc1, double utc2, double dut1) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        if (!valid || !(Math.abs((utc1 - this.utc1) + (utc2 - this.utc2)) * 86400.0 < interval)) {
+
+            /* Everything. */
+            eo = jauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom);
+            this.utc1 = utc1;
+            this.utc2 = utc2;
+            valid = true;
+        } else {
+
+            /* Just the Earth rotation angle. */
+            JulianDate ut1 = jauUtcut1(utc1, utc2, dut1);
+            jauAper(jauEra00(ut1.djm0, ut1.djm1), astrom);
+        }
+        return eo;
+    }
+
+    /**
+     * The astrometry parameters, as at the last call of {@link #update}. This object is updated in place.
+     * @return the parameters.
+     */
+    public Astrom getAstrom()
+    {
+        return astrom;
+    }
+
+    /**
+     * Change the ambient conditions and the wavelength - only the refraction constants are recalculated.
+     *
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     */
+    public void setAmbient(double phpa, double tc, double rh, double wl)
+    {
+        this.phpa = phpa;
+        this.tc = tc;
+        this.rh = rh;
+        this.wl = wl;
+        RefCos ref = jauRefco(phpa, tc, rh, wl);
+        astrom.refa = ref.a;
+        astrom.refb = ref.b;
+    }
+
+    /**
+     * Change the polar motion - the slow terms will be recalculated at the next update.
+     *
+     *     @param xp      double      polar motion coordinates (radians)
+     *     @param yp      double      polar motion coordinates (radians)
+     */
+    public void setPolarMotion(double xp, double yp)
+    {
+        this.xp = xp;
+        this.yp = yp;
+        invalidate();
+    }
+
+    /**
+     * Force all the parameters to be recalculated at the next update.
+     */
+    public void invalidate()
+    {
+        valid = false;
+    }
+}
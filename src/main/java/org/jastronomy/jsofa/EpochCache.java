@@ -0,0 +1,383 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.jastronomy.jsofa.JSOFA.jauApci;
+import static org.jastronomy.jsofa.JSOFA.jauApco;
+import static org.jastronomy.jsofa.JSOFA.jauAtciq;
+import static org.jastronomy.jsofa.JSOFA.jauAtioq;
+import static org.jastronomy.jsofa.JSOFA.jauBpn2xy;
+import static org.jastronomy.jsofa.JSOFA.jauC2ixys;
+import static org.jastronomy.jsofa.JSOFA.jauC2tcio;
+import static org.jastronomy.jsofa.JSOFA.jauEors;
+import static org.jastronomy.jsofa.JSOFA.jauEpv00;
+import static org.jastronomy.jsofa.JSOFA.jauEra00;
+import static org.jastronomy.jsofa.JSOFA.jauPnm06a;
+import static org.jastronomy.jsofa.JSOFA.jauPom00;
+import static org.jastronomy.jsofa.JSOFA.jauRefco;
+import static org.jastronomy.jsofa.JSOFA.jauS06;
+import static org.jastronomy.jsofa.JSOFA.jauSp00;
+import static org.jastronomy.jsofa.JSOFA.jauTaitt;
+import static org.jastronomy.jsofa.JSOFA.jauUtctai;
+import static org.jastronomy.jsofa.JSOFA.jauUtcut1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.CelestialIntermediatePole;
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.ObservedPosition;
+import org.jastronomy.jsofa.JSOFA.ObservedPositionEO;
+import org.jastronomy.jsofa.JSOFA.RefCos;
+import org.jastronomy.jsofa.JSOFA.SphericalCoordinate;
+import org.jastronomy.jsofa.JSOFA.SphericalCoordinateEO;
+
+/**
+ * Remembers the epoch dependent quantities of {@link JSOFA#jauApco13}, {@link JSOFA#jauApci13},
+ * {@link JSOFA#jauAtco13}, {@link JSOFA#jauAtci13} and {@link JSOFA#jauC2t06a} for recently used dates.
+ *
+ * <p>These functions spend nearly all their time on the Earth ephemeris ({@link JSOFA#jauEpv00}), the
+ * precession-nutation matrix ({@link JSOFA#jauPnm06a}) and the CIO locator ({@link JSOFA#jauS06}), which only depend on the date.
+ * When they are called many times with exactly the same date, for example once per target in a scheduler tick,
+ * the methods of this class, which take the same arguments, compute those quantities once and reuse them.
+ * The results are identical to those of the {@link JSOFA} functions.
+ *
+ * <p>Each thread has its own table of the last {@link #getCapacity()} TT dates, together with the Earth position
+ * and velocity, the bias-precession-nutation matrix, X, Y, s, s' and the equation of the origins,
+ * and a table of the same size of UTC dates with the corresponding TT, UT1 and Earth rotation angle.
+ * Dates must match exactly to be reused, and the oldest entry is replaced when a table is full. The numbers of
+ * TT dates found and not found in the tables, over all threads, are given by {@link #getHits()} and {@link #getMisses()}.
+ *
+ * <p>Instances may be shared between threads. {@link #clear()} should be called if the leap second table is
+ * replaced, as that changes the TT of a UTC date.
+ */
+public final class EpochCache {
+
+    /** The default number of dates remembered by each thread. */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    /* The quantities that depend on the TT date. */
+    private static final class Epoch {
+        double tt1, tt2;
+        final double ehpv[][] = new double[2][3], ebpv[][] = new double[2][3], rc2i[][] = new double[3][3];
+        /* Scratch polar motion matrix for c2t06a. */
+        final double rpom[][] = new double[3][3];
+        double x, y, s, sp, eo;
+
+        void set(double tt1, double tt2)
+        {
+            this.tt1 = tt1;
+            this.tt2 = tt2;
+
+            /* Earth barycentric & heliocentric position/velocity (au, au/d). */
+            jauEpv00(tt1, tt2, ehpv, ebpv);
+
+            /* Form the equinox based BPN matrix, IAU 2006/2000A, extract the CIP X,Y and obtain s. */
+            double r[][] = jauPnm06a(tt1, tt2);
+            CelestialIntermediatePole cip = jauBpn2xy(r);
+            x = cip.x;
+            y = cip.y;
+            s = jauS06(tt1, tt2, x, y);
+
+            /* The celestial-to-intermediate matrix, TIO locator s' and equation of the origins. */
+            jauC2ixys(x, y, s, rc2i);
+            sp = jauSp00(tt1, tt2);
+            eo = jauEors(r, s);
+        }
+    }
+
+    /* The time scales that depend on the UTC date and UT1-UTC. */
+    private static final class Utc {
+        double utc1, utc2, dut1, tt1, tt2, theta;
+
+        void set(double utc1, double utc2, double dut1) throws JSOFAIllegalParameter, JSOFAInternalError
+        {
+            JulianDate tai = jauUtctai(utc1, utc2);
+            JulianDate tt = jauTaitt(tai.djm0, tai.djm1);
+            JulianDate ut1 = jauUtcut1(utc1, utc2, dut1);
+            this.utc1 = utc1;
+            this.utc2 = utc2;
+            this.dut1 = dut1;
+            tt1 = tt.djm0;
+            tt2 = tt.djm1;
+            theta = jauEra00(ut1.djm0, ut1.djm1);
+        }
+    }
+
+    /* The tables of one thread. */
+    private final class Tables {
+        final Epoch epochs[] = new Epoch[capacity];
+        final Utc utcs[] = new Utc[capacity];
+        int nepoch, nutc, generation;
+    }
+
+    private final int capacity;
+
+    private final ThreadLocal<Tables> tables = new ThreadLocal<Tables>() {
+        @Override
+        protected Tables initialValue() {
+            return new Tables();
+        }
+    };
+
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+    /* Incremented by clear, so that each thread discards its tables. */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Create a cache with the default capacity.
+     */
+    public EpochCache()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a cache.
+     * @param capacity the number of TT dates, and of UTC dates, that each thread remembers.
+     * @throws JSOFAIllegalParameter if the capacity is less than one.
+     */
+    public EpochCache(int capacity) throws JSOFAIllegalParameter
+    {
+        if (capacity < 1) throw new JSOFAIllegalParameter("capacity must be at least 1", -1);
+        this.capacity = capacity;
+    }
+
+    /* The calling thread's tables, emptied if clear has been called since they were last used. */
+    private Tables tables()
+    {
+        Tables t = tables.get();
+        int g = generation.get();
+        if (t.generation != g) {
+            java.util.Arrays.fill(t.epochs, null);
+            java.util.Arrays.fill(t.utcs, null);
+            t.nepoch = 0;
+            t.nutc = 0;
+            t.generation = g;
+        }
+        return t;
+    }
+
+    /* The quantities for a TT date, looking first at the most recently added. */
+    private Epoch epoch(double tt1, double tt2)
+    {
+        Tables t = tables();
+        int i, k;
+        Epoch e;
+
+        for (i = 0; i < capacity; i++) {
+            k = (t.nepoch - 1 - i + capacity) % capacity;
+            e = t.epochs[k];
+            if (e == null) break;
+            if (e.tt1 == tt1 && e.tt2 == tt2) {
+                hits.increment();
+                return e;
+            }
+        }
+        misses.increment();
+        k = t.nepoch;
+        if (t.epochs[k] == null) t.epochs[k] = new Epoch();
+        e = t.epochs[k];
+        e.set(tt1, tt2);
+        t.nepoch = (k + 1) % capacity;
+        return e;
+    }
+
+    /* The time scales for a UTC date. */
+    private Utc utc(double utc1, double utc2, double dut1) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        Tables t = tables();
+        int i, k;
+        Utc u;
+
+        for (i = 0; i < capacity; i++) {
+            k = (t.nutc - 1 - i + capacity) % capacity;
+            u = t.utcs[k];
+            if (u == null) break;
+            if (u.utc1 == utc1 && u.utc2 == utc2 && u.dut1 == dut1) return u;
+        }
+        k = t.nutc;
+        if (t.utcs[k] == null) t.utcs[k] = new Utc();
+        u = t.utcs[k];
+        u.set(utc1, utc2, dut1);
+        t.nutc = (k + 1) % capacity;
+        return u;
+    }
+
+    /**
+     * Star-independent astrometry parameters for a terrestrial observer, as {@link JSOFA#jauApco13}.
+     *
+     *     @param utc1    double      UTC as a 2-part...
+     *     @param utc2    double      ...quasi Julian Date
+     *     @param dut1    double      UT1-UTC (seconds)
+     *     @param elong   double      longitude (radians, east +ve)
+     *     @param phi     double      latitude (geodetic, radians)
+     *     @param hm      double      height above ellipsoid (m, geodetic)
+     *     @param xp      double      polar motion coordinates (radians)
+     *     @param yp      double      polar motion coordinates (radians)
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *     @param astrom  Astrom      <b>Returned</b> star-independent astrometry parameters
+     *     @return        double      equation of the origins (ERA-GST)
+     *
+     *  @throws JSOFAInternalError an internal error has occured
+     *  @throws JSOFAIllegalParameter unacceptable date.
+     */
+    public double apco13(double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl,
+            Astrom astrom) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        Utc u = utc(utc1, utc2, dut1);
+        Epoch e = epoch(u.tt1, u.tt2);
+        RefCos ref = jauRefco(phpa, tc, rh, wl);
+
+        jauApco(u.tt1, u.tt2, e.ebpv, e.ehpv[0], e.x, e.y, e.s, u.theta,
+                elong, phi, hm, xp, yp, e.sp, ref.a, ref.b, astrom);
+        return e.eo;
+    }
+
+    /**
+     * Star-independent astrometry parameters for a geocentric observer, as {@link JSOFA#jauApci13}.
+     *
+     *     @param date1  double       TDB as a 2-part...
+     *     @param date2  double       ...Julian Date
+     *     @param astrom Astrom       <b>Returned</b> star-independent astrometry parameters
+     *     @return       double       equation of the origins (ERA-GST)
+     */
+    public double apci13(double date1, double date2, Astrom astrom)
+    {
+        Epoch e = epoch(date1, date2);
+
+        jauApci(date1, date2, e.ebpv, e.ehpv[0], e.x, e.y, e.s, astrom);
+        return e.eo;
+    }
+
+    /**
+     * Transform ICRS star data, epoch J2000.0, to CIRS, as {@link JSOFA#jauAtci13}.
+     *
+     *     @param rc     double   ICRS right ascension at J2000.0 (radians)
+     *     @param dc     double   ICRS declination at J2000.0 (radians)
+     *     @param pr     double   RA proper motion (radians/year)
+     *     @param pd     double   Dec proper motion (radians/year)
+     *     @param px     double   parallax (arcsec)
+     *     @param rv     double   radial velocity (km/s, +ve if receding)
+     *     @param date1  double   TDB as a 2-part...
+     *     @param date2  double   ...Julian Date
+     *     @return CIRS geocentric RA,Dec (radians) and the equation of the origins (ERA-GST)
+     */
+    public SphericalCoordinateEO atci13(double rc, double dc,
+            double pr, double pd, double px, double rv,
+            double date1, double date2)
+    {
+        Astrom astrom = new Astrom();
+        double eo = apci13(date1, date2, astrom);
+        return new SphericalCoordinateEO(jauAtciq(rc, dc, pr, pd, px, rv, astrom), eo);
+    }
+
+    /**
+     * Transform ICRS star data, epoch J2000.0, to observed, as {@link JSOFA#jauAtco13}.
+     *
+     *     @param rc     double   ICRS right ascension at J2000.0 (radians)
+     *     @param dc     double   ICRS declination at J2000.0 (radians)
+     *     @param pr     double   RA proper motion (radians/year)
+     *     @param pd     double   Dec proper motion (radians/year)
+     *     @param px     double   parallax (arcsec)
+     *     @param rv     double   radial velocity (km/s, +ve if receding)
+     *     @param utc1   double   UTC as a 2-part...
+     *     @param utc2   double   ...quasi Julian Date
+     *     @param dut1   double   UT1-UTC (seconds)
+     *     @param elong  double   longitude (radians, east +ve)
+     *     @param phi    double   latitude (geodetic, radians)
+     *     @param hm     double   height above ellipsoid (m, geodetic)
+     *     @param xp     double   polar motion coordinates (radians)
+     *     @param yp     double   polar motion coordinates (radians)
+     *     @param phpa   double   pressure at the observer (hPa = mB)
+     *     @param tc     double   ambient temperature at the observer (deg C)
+     *     @param rh     double   relative humidity at the observer (range 0-1)
+     *     @param wl     double   wavelength (micrometers)
+     *     @return the observed position and the equation of the origins (ERA-GST)
+     *
+     *  @throws JSOFAInternalError an internal error has occured
+     *  @throws JSOFAIllegalParameter unacceptable date.
+     */
+    public ObservedPositionEO atco13(double rc, double dc,
+            double pr, double pd, double px, double rv,
+            double utc1, double utc2, double dut1,
+            double elong, double phi, double hm, double xp, double yp,
+            double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        Astrom astrom = new Astrom();
+        double eo = apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom);
+        SphericalCoordinate co = jauAtciq(rc, dc, pr, pd, px, rv, astrom);
+        ObservedPosition obs = jauAtioq(co.alpha, co.delta, astrom);
+        return new ObservedPositionEO(obs, eo);
+    }
+
+    /**
+     * Celestial to terrestrial matrix, IAU 2006/2000A, as {@link JSOFA#jauC2t06a(double, double, double, double, double, double, double[][])}.
+     * Only the TT date is remembered, as the Earth rotation angle is quick to compute.
+     *
+     *     @param tta double TT as a 2-part Julian Date
+     *     @param ttb double TT as a 2-part Julian Date
+     *     @param uta double UT1 as a 2-part Julian Date
+     *     @param utb double UT1 as a 2-part Julian Date
+     *     @param xp double CIP coordinates (radians)
+     *     @param yp double CIP coordinates (radians)
+     *     @param rc2t double[3][3]   <b>Returned</b> celestial-to-terrestrial matrix
+     *     @return rc2t
+     */
+    public double[][] c2t06a(double tta, double ttb, double uta, double utb,
+            double xp, double yp, double rc2t[][])
+    {
+        Epoch e = epoch(tta, ttb);
+
+        jauPom00(xp, yp, e.sp, e.rpom);
+        return jauC2tcio(e.rc2i, jauEra00(uta, utb), e.rpom, rc2t);
+    }
+
+    /**
+     * Forget the remembered dates, in all threads. The counts are not reset.
+     */
+    public void clear()
+    {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * @return the number of dates that each thread remembers.
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * @return the number of times that the quantities for a TT date have been reused.
+     */
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of times that the quantities for a TT date have been calculated.
+     */
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.jastronomy.jsofa.JSOFA.DAYSEC;
+import static org.jastronomy.jsofa.JSOFA.DJM0;
+
+import java.nio.ByteBuffer;
+
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
+
+/**
+ * Parsing of many ISO 8601 timestamps from ASCII text in a byte buffer into 2-part Julian Dates, as
+ * {@link JSOFA#jauDtf2d(TimeScale, int, int, int, int, int, double)} would give for their fields.
+ *
+ * <p>A timestamp is {@code yyyy-mm-ddThh:mm:ss.sss}, where the 'T' may be a space, the year has four or more digits,
+ * the fraction of a second may have any number of digits or be absent, and the time may be absent altogether (for
+ * 0h); it ends at the first character that does not fit, so it may be followed by other fields. Leading spaces
+ * are skipped. The seconds are parsed as by {@link Double#parseDouble}.
+ *
+ * <p>The buffer is read in place with absolute gets, so a {@link java.nio.MappedByteBuffer} of a whole file can be
+ * parsed without copying, and nothing is allocated per timestamp. The Julian Date is formed from the fields with the
+ * arithmetic of {@link JSOFA#jauCal2jd}. For UTC, TAI-UTC is looked up only when a date falls outside the span between
+ * leap seconds of the previous one, as in {@link TimeScales}; within a span every day has 86400 seconds. Dates on the
+ * day of a change in TAI-UTC, before 1972 or with a day that is not in the month, are passed to {@link JSOFA#jauDtf2d(TimeScale, int, int, int, int, int, double)}
+ * itself, so a leap second such as 23:59:60.5 is dealt with in the same way. The results are identical to those of
+ * jauDtf2d.
+ *
+ * <p>The status of each timestamp is returned in an array, if one is given: 0 for success, otherwise the status of
+ * the exception that jauDtf2d would have thrown (e.g. -2 for a bad month) or -7 if the text is not a timestamp, and
+ * the date is then NaN. Without a status array the first bad timestamp causes that exception to be thrown.
+ */
+public final class IsoDateParser {
+
+    /* Status of text that is not a timestamp. */
+    private static final int BAD_TEXT = -7;
+
+    /* Month lengths in days. */
+    private static final int MTAB[] = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final TimeScale scale;
+    private final boolean utc;
+    private final LeapSecondTable table;
+
+    /* The span of MJDs in which TAI-UTC is constant, from the previous UTC date. */
+    private double lo = 0.0, hi = -1.0;
+
+    private IsoDateParser(TimeScale scale)
+    {
+        this.scale = scale;
+        utc = scale == TimeScale.UTC;
+        table = LeapSecondTable.current();
+    }
+
+    /**
+     * Parse the timestamps that start at the given indices of a buffer.
+     *
+     *     @param scale   TimeScale    time scale of the timestamps
+     *     @param bb      ByteBuffer   the text
+     *     @param offsets int[n]       index in bb of the start of each timestamp
+     *     @param d1      double[n]    <b>Returned</b> dates as 2-part...
+     *     @param d2      double[n]    <b>Returned</b> ...Julian Dates
+     *     @param status  int[n]       <b>Returned</b> status of each date (may be null)
+     *
+     * @throws JSOFAIllegalParameter a bad timestamp, if status is null.
+     * @throws JSOFAInternalError a bad timestamp, if status is null.
+     */
+    public static void parse(TimeScale scale, ByteBuffer bb, int offsets[], double d1[], double d2[], int status[])
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        IsoDateParser p = new IsoDateParser(scale);
+        int n = bb.limit();
+
+        for (int r = 0; r < offsets.length; r++) {
+            p.row(bb, offsets[r], n, d1, d2, status, r);
+        }
+    }
+
+    /**
+     * Parse timestamps at the start of successive lines of a buffer, from its position up to its limit or until
+     * the arrays are full. Blank lines are skipped, and anything after the timestamp on a line is ignored. The
+     * position of the buffer is moved to the start of the first line that was not parsed, so that a large buffer
+     * can be parsed in sections.
+     *
+     *     @param scale   TimeScale    time scale of the timestamps
+     *     @param bb      ByteBuffer   the text, with lines ended by '\n' (or "\r\n")
+     *     @param d1      double[n]    <b>Returned</b> dates as 2-part...
+     *     @param d2      double[n]    <b>Returned</b> ...Julian Dates
+     *     @param status  int[n]       <b>Returned</b> status of each date (may be null)
+     *     @return the number of timestamps parsed.
+     *
+     * @throws JSOFAIllegalParameter a bad timestamp, if status is null.
+     * @throws JSOFAInternalError a bad timestamp, if status is null.
+     */
+    public static int parseLines(TimeScale scale, ByteBuffer bb, double d1[], double d2[], int status[])
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        IsoDateParser p = new IsoDateParser(scale);
+        int i = bb.position(), n = bb.limit(), e, r = 0;
+        byte c;
+
+        while (r < d1.length && i < n) {
+
+            /* The end of the line, and whether there is anything on it. */
+            boolean blank = true;
+            for (e = i; e < n && (c = bb.get(e)) != '\n'; e++) {
+                if (c != ' ' && c != '\r') blank = false;
+            }
+            if (!blank) p.row(bb, i, e, d1, d2, status, r++);
+            i = e < n ? e + 1 : n;
+        }
+        bb.position(i);
+        return r;
+    }
+
+    /*
+     * Parse one timestamp from i (up to at most n) into row r.
+     */
+    private void row(ByteBuffer bb, int i, int n, double d1[], double d2[], int status[], int r)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        try {
+            row(bb, i, n, d1, d2, r);
+            if (status != null) status[r] = 0;
+        } catch (JSOFAException e) {
+            if (status == null) throw e;
+            status[r] = e.getStatus();
+            d1[r] = Double.NaN;
+            d2[r] = Double.NaN;
+        }
+    }
+
+    private void row(ByteBuffer bb, int i, int n, double d1[], double d2[], int r)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        int iy, im, id, ihr = 0, imn = 0, k, nd = 0, nf = 0;
+        long m = 0;
+        double sec = 0.0, djm;
+
+        while (i < n && bb.get(i) == ' ') i++;
+
+        /* The date. */
+        for (k = i, iy = 0; i < n && i - k < 9 && isDigit(bb, i); i++) iy = 10 * iy + bb.get(i) - '0';
+        if (i - k < 4) throw bad();
+        i = expect(bb, i, n, '-');
+        im = two(bb, i, n);
+        i = expect(bb, i + 2, n, '-');
+        id = two(bb, i, n);
+        i += 2;
+
+        /* The time, if any. */
+        if (i + 1 < n && (bb.get(i) == 'T' || bb.get(i) == ' ') && isDigit(bb, i + 1)) {
+            ihr = two(bb, ++i, n);
+            i = expect(bb, i + 2, n, ':');
+            imn = two(bb, i, n);
+            i = expect(bb, i + 2, n, ':');
+            for (k = i; i < n && isDigit(bb, i); i++, nd++) m = 10 * m + bb.get(i) - '0';
+            if (nd != 2) throw bad();
+            if (i < n && bb.get(i) == '.') {
+                for (i++; i < n && isDigit(bb, i); i++, nd++, nf++) m = 10 * m + bb.get(i) - '0';
+            }
+            sec = Sexagesimal.decimal(null, bb, k, i, m, nd, nf);
+        }
+
+        /* Validate the month (the year cannot be negative); a day outside the month is left to jauDtf2d. */
+        if (im < 1 || im > 12) throw new JSOFAIllegalParameter("bad month", -2);
+        k = (im == 2 && iy % 4 == 0 && (iy % 100 != 0 || iy % 400 == 0)) ? 1 : 0;
+        if (id < 1 || id > MTAB[im - 1] + k) {
+            dtf2d(iy, im, id, ihr, imn, sec, d1, d2, r);
+            return;
+        }
+
+        /* The UTC span. */
+        djm = JSOFA.cal2mjd(iy, im, id);
+        if (utc && !(djm >= lo && djm < hi)) {
+            k = table.findMjd(djm);
+            if (k >= table.nera1) {
+                lo = table.mjd[k];
+                hi = k + 1 < table.mjd.length ? table.mjd[k + 1] - 1.0 : Double.POSITIVE_INFINITY;
+            }
+            if (!(djm >= lo && djm < hi)) {
+                dtf2d(iy, im, id, ihr, imn, sec, d1, d2, r);
+                return;
+            }
+        }
+
+        /* Validate the time, as jauDtf2d. */
+        if (ihr > 23) throw new JSOFAInternalError("problem with time", -4);
+        if (imn > 59) throw new JSOFAInternalError("problem with time", -5);
+
+        d1[r] = DJM0 + djm;
+        d2[r] = ( 60.0 * ( (double) ( 60 * ihr + imn ) ) + sec ) / DAYSEC;
+    }
+
+    /* Row r by jauDtf2d itself. */
+    private void dtf2d(int iy, int im, int id, int ihr, int imn, double sec, double d1[], double d2[], int r)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        JulianDate jd = JSOFA.jauDtf2d(scale, iy, im, id, ihr, imn, sec);
+        d1[r] = jd.djm0;
+        d2[r] = jd.djm1;
+    }
+
+    private static boolean isDigit(ByteBuffer bb, int i)
+    {
+        byte c = bb.get(i);
+        return c >= '0' && c <= '9';
+    }
+
+    /* A field of exactly two digits at i. */
+    private static int two(ByteBuffer bb, int i, int n) throws JSOFAIllegalParameter
+    {
+        if (i + 1 >= n || !isDigit(bb, i) || !isDigit(bb, i + 1)) throw bad();
+        return 10 * (bb.get(i) - '0') + bb.get(i + 1) - '0';
+    }
+
+    private static int expect(ByteBuffer bb, int i, int n, char c) throws JSOFAIllegalParameter
+    {
+        if (i >= n || bb.get(i) != c) throw bad();
+        return i + 1;
+    }
+
+    private static JSOFAIllegalParameter bad()
+    {
+        return new JSOFAIllegalParameter("bad timestamp", BAD_TEXT);
+    }
+}
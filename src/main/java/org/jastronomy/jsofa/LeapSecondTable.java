@@ -0,0 +1,307 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jastronomy.jsofa.JSOFA.Calendar;
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+
+/**
+ * An immutable table of the dates at which TAI-UTC changed, as used by {@link JSOFA#jauDat}.
+ *
+ * <p>The table in use is {@link #current()}; initially this is {@link #BUILT_IN}, the table compiled into
+ * this release of JSOFA, but a newer one can be loaded from a leap second file with {@link #load} and
+ * installed with {@link #install} without upgrading the library. As tables are immutable and
+ * {@link JSOFA#jauDat} takes a single snapshot of the current table, conversions such as
+ * {@link JSOFA#jauUtctai}, {@link JSOFA#jauTaiutc} and {@link JSOFA#jauDtf2d} continue without locking while
+ * a new table is installed.
+ *
+ * <p>Two file formats are understood:
+ * <ul>
+ * <li>the <code>leap-seconds.list</code> file distributed by IERS, NIST and with the IANA time zone database,
+ *     in which each line gives the NTP time (seconds since 1900 January 1) and TAI-UTC, and the <code>#@</code>
+ *     line gives the expiry date of the file;
+ * <li>the IERS <code>Leap_Second.dat</code> file that accompanies Bulletin C, in which each line
+ *     gives the MJD, day, month, year and TAI-UTC, and the "File expires on" comment gives the expiry date.
+ * </ul>
+ * Both files start at 1972 January 1; the entries for the earlier period, when TAI-UTC drifted, are
+ * always taken from the built-in table.
+ */
+public final class LeapSecondTable {
+
+    /** The table compiled into this release of JSOFA. */
+    public static final LeapSecondTable BUILT_IN = new LeapSecondTable(JSOFA.leapSeconds, JSOFA.leapSecondDrift,
+            JSOFA.latestConfirmedNoLeapSecondChange);
+
+    private static volatile LeapSecondTable current = BUILT_IN;
+
+    /* 12 * year + month of each change, in increasing order. */
+    final int yearMonth[];
+
+    /* MJD of each change. */
+    final double mjd[];
+
+    /* TAI-UTC from each change (s). */
+    final double delat[];
+
+    /* Reference dates (MJD) and drift rates (s/day) for the entries before leap seconds. */
+    final double driftRef[], driftRate[];
+
+    /* Number of entries before leap seconds were introduced. */
+    final int nera1;
+
+    private final int firstYear;
+    private final JulianDate expiry;
+
+    private LeapSecondTable(JSOFA.LeapInfo entries[], double drift[][], JulianDate expiry)
+    {
+        int n = entries.length, i;
+
+        yearMonth = new int[n];
+        mjd = new double[n];
+        delat = new double[n];
+        nera1 = drift.length;
+        driftRef = new double[nera1];
+        driftRate = new double[nera1];
+        for (i = 0; i < n; i++) {
+            yearMonth[i] = 12 * entries[i].iyear + entries[i].month;
+            mjd[i] = JSOFA.jauCal2jd(entries[i].iyear, entries[i].month, 1).djm1;
+            delat[i] = entries[i].delat;
+        }
+        for (i = 0; i < nera1; i++) {
+            driftRef[i] = drift[i][0];
+            driftRate[i] = drift[i][1];
+        }
+        firstYear = entries[0].iyear;
+        this.expiry = expiry;
+    }
+
+    /**
+     * The table used by {@link JSOFA#jauDat}.
+     * @return the current table.
+     */
+    public static LeapSecondTable current()
+    {
+        return current;
+    }
+
+    /**
+     * Replace the table used by {@link JSOFA#jauDat}. Calculations already in progress complete with the previous table.
+     * @param table the new table.
+     */
+    public static void install(LeapSecondTable table)
+    {
+        if (table == null) throw new NullPointerException("table");
+        current = table;
+    }
+
+    /**
+     * Read a leap second file.
+     * @param file a <code>leap-seconds.list</code> or <code>Leap_Second.dat</code> file.
+     * @return the table.
+     * @throws IOException if the file cannot be read or is not in one of the expected formats.
+     */
+    public static LeapSecondTable load(File file) throws IOException
+    {
+        Reader in = new InputStreamReader(new FileInputStream(file), StandardCharsets.US_ASCII);
+        try {
+            return parse(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Read a leap second file.
+     * @param in the contents of a <code>leap-seconds.list</code> or <code>Leap_Second.dat</code> file.
+     * @return the table.
+     * @throws IOException if the contents cannot be read or are not in one of the expected formats.
+     */
+    public static LeapSecondTable parse(Reader in) throws IOException
+    {
+        BufferedReader r = new BufferedReader(in);
+        List<JSOFA.LeapInfo> entries = new ArrayList<JSOFA.LeapInfo>();
+        JulianDate expiry = null;
+        String line, f[], expiryText = null;
+        double mjd;
+        int lineno = 0, expiryLine = 0;
+
+        /* The pre-leap second entries are not in the files. */
+        for (JSOFA.LeapInfo e : JSOFA.leapSeconds) {
+            if (e.iyear < 1972) entries.add(e);
+        }
+        int npre = entries.size();
+
+        while ((line = r.readLine()) != null) {
+            lineno++;
+            line = line.trim();
+            try {
+                if (line.startsWith("#@")) {
+
+                    /* leap-seconds.list expiry (NTP seconds). */
+                    expiry = new JulianDate(JSOFA.DJM0, ntpToMjd(line.substring(2).trim()));
+                } else if (line.startsWith("#")) {
+                    int i = line.toLowerCase(Locale.ROOT).indexOf("file expires on");
+                    if (i >= 0) {
+
+                        /* Free text expiry - only used if there is no #@ line. */
+                        expiryText = line.substring(i + 15).trim();
+                        expiryLine = lineno;
+                    }
+                } else if (!line.isEmpty()) {
+                    int hash = line.indexOf('#');
+                    f = (hash >= 0 ? line.substring(0, hash) : line).trim().split("\\s+");
+                    if (f.length == 2) {
+                        mjd = ntpToMjd(f[0]);
+                    } else if (f.length == 5) {
+                        mjd = Double.parseDouble(f[0]);
+                    } else {
+                        throw new IOException("unrecognised line " + lineno + ": " + line);
+                    }
+                    Calendar cal = JSOFA.jauJd2cal(JSOFA.DJM0, mjd);
+                    if (cal.id != 1 || cal.fd != 0.0) throw new IOException("line " + lineno + " is not for the first of a month");
+                    JSOFA.LeapInfo e = new JSOFA.LeapInfo(cal.iy, cal.im, Double.parseDouble(f[f.length - 1]));
+                    JSOFA.LeapInfo last = entries.get(entries.size() - 1);
+                    if (12 * e.iyear + e.month <= 12 * last.iyear + last.month)
+                        throw new IOException("line " + lineno + " is out of date order");
+                    entries.add(e);
+                }
+            } catch (NumberFormatException e) {
+                throw new IOException("bad number at line " + lineno + ": " + line, e);
+            } catch (JSOFAIllegalParameter e) {
+                throw new IOException("bad date at line " + lineno + ": " + line, e);
+            }
+        }
+        if (entries.size() == npre) throw new IOException("no leap second entries found");
+        if (expiry == null && expiryText != null) {
+
+            /* Leap_Second.dat expiry (day month-name year), or that of leap-seconds.list after a colon. */
+            if (expiryText.startsWith(":")) expiryText = expiryText.substring(1).trim();
+            try {
+                expiry = parseExpiry(expiryText.split("\\s+"));
+            } catch (NumberFormatException e) {
+                throw new IOException("bad expiry date at line " + expiryLine, e);
+            } catch (JSOFAIllegalParameter e) {
+                throw new IOException("bad expiry date at line " + expiryLine, e);
+            }
+        }
+        if (expiry == null) throw new IOException("no expiry date found");
+
+        return new LeapSecondTable(entries.toArray(new JSOFA.LeapInfo[entries.size()]),
+                JSOFA.leapSecondDrift, expiry);
+    }
+
+    /* NTP seconds (from 1900 January 1) to MJD. */
+    private static double ntpToMjd(String s)
+    {
+        return 15020.0 + Long.parseLong(s) / 86400;
+    }
+
+    private static JulianDate parseExpiry(String f[]) throws IOException, JSOFAIllegalParameter
+    {
+        final String months[] = {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+
+        if (f.length >= 3) {
+            for (int m = 0; m < 12; m++) {
+                if (f[1].toLowerCase(Locale.ROOT).startsWith(months[m])) {
+                    return JSOFA.jauCal2jd(Integer.parseInt(f[2]), m + 1, Integer.parseInt(f[0]));
+                }
+            }
+        }
+        throw new IOException("bad expiry date");
+    }
+
+    /**
+     * Find the last change at or before a given year and month.
+     * @param iy year
+     * @param im month
+     * @return the index of the change, or -1 if the date is before the start of the table.
+     */
+    int find(int iy, int im)
+    {
+        int m = 12 * iy + im, lo = 0, hi = yearMonth.length - 1, mid;
+
+        if (m < yearMonth[0]) return -1;
+        while (lo < hi) {
+            mid = (lo + hi + 1) >>> 1;
+            if (yearMonth[mid] <= m) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Find the last change at or before a given date.
+     * @param djm the MJD
+     * @return the index of the change, or -1 if the date is before the start of the table.
+     */
+    int findMjd(double djm)
+    {
+        int lo = 0, hi = mjd.length - 1, mid;
+
+        if (!(djm >= mjd[0])) return -1;
+        while (lo < hi) {
+            mid = (lo + hi + 1) >>> 1;
+            if (mjd[mid] <= djm) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return the first year covered by the table.
+     */
+    public int getFirstYear()
+    {
+        return firstYear;
+    }
+
+    /**
+     * @return the number of changes in TAI-UTC in the table.
+     */
+    public int size()
+    {
+        return delat.length;
+    }
+
+    /**
+     * @return the date of the last change in TAI-UTC in the table.
+     */
+    public JulianDate getLastChange()
+    {
+        return new JulianDate(JSOFA.DJM0, mjd[mjd.length - 1]);
+    }
+
+    /**
+     * @return the date after which the table should not be trusted, as there might have been a further leap second.
+     */
+    public JulianDate getExpiry()
+    {
+        return new JulianDate(expiry.djm0, expiry.djm1);
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.Math.atan;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+
+import org.jastronomy.jsofa.JSOFA.FWPrecessionAngles;
+import org.jastronomy.jsofa.JSOFA.NutationTerms;
+
+/**
+ * An immutable r-matrix with flat fields - an alternative to the double[3][3] used by the JSOFA functions.
+ * Element mij is in row i and column j, i.e. r[i][j].
+ *
+ * <p>The arithmetic is carried out exactly as in the corresponding JSOFA function (named in each method),
+ * so the results are the same, but as there are no arrays, short-lived instances can be eliminated entirely
+ * by the JIT compiler's escape analysis. The static methods form the main celestial to terrestrial matrices in the
+ * same way as the JSOFA function of the same name.
+ *
+ * @see Vec3
+ * @see PV
+ */
+public final class Mat3 {
+
+    /** The identity matrix. */
+    public static final Mat3 IDENTITY = new Mat3(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
+
+    public final double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+
+    public Mat3(double m00, double m01, double m02,
+            double m10, double m11, double m12,
+            double m20, double m21, double m22)
+    {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    /**
+     * @param r double[3][3] r-matrix
+     * @return the matrix with the same elements.
+     */
+    public static Mat3 of(double r[][])
+    {
+        return new Mat3(r[0][0], r[0][1], r[0][2], r[1][0], r[1][1], r[1][2], r[2][0], r[2][1], r[2][2]);
+    }
+
+    /**
+     * @return a new double[3][3] with the elements.
+     */
+    public double[][] toArray()
+    {
+        return into(new double[3][3]);
+    }
+
+    /**
+     * @param r double[3][3] <u>returned</u> the elements.
+     * @return r
+     */
+    public double[][] into(double r[][])
+    {
+        r[0][0] = m00; r[0][1] = m01; r[0][2] = m02;
+        r[1][0] = m10; r[1][1] = m11; r[1][2] = m12;
+        r[2][0] = m20; r[2][1] = m21; r[2][2] = m22;
+        return r;
+    }
+
+    /** @param b the other matrix. @return this * b, as {@link JSOFA#jauRxr}. */
+    public Mat3 times(Mat3 b)
+    {
+        return new Mat3(
+                m00 * b.m00 + m01 * b.m10 + m02 * b.m20,
+                m00 * b.m01 + m01 * b.m11 + m02 * b.m21,
+                m00 * b.m02 + m01 * b.m12 + m02 * b.m22,
+                m10 * b.m00 + m11 * b.m10 + m12 * b.m20,
+                m10 * b.m01 + m11 * b.m11 + m12 * b.m21,
+                m10 * b.m02 + m11 * b.m12 + m12 * b.m22,
+                m20 * b.m00 + m21 * b.m10 + m22 * b.m20,
+                m20 * b.m01 + m21 * b.m11 + m22 * b.m21,
+                m20 * b.m02 + m21 * b.m12 + m22 * b.m22);
+    }
+
+    /** @return the transpose, as {@link JSOFA#jauTr}. */
+    public Mat3 transpose()
+    {
+        return new Mat3(m00, m10, m20, m01, m11, m21, m02, m12, m22);
+    }
+
+    /** @param p the vector. @return this * p, as {@link JSOFA#jauRxp}. */
+    public Vec3 apply(Vec3 p)
+    {
+        return new Vec3(
+                m00 * p.x + m01 * p.y + m02 * p.z,
+                m10 * p.x + m11 * p.y + m12 * p.z,
+                m20 * p.x + m21 * p.y + m22 * p.z);
+    }
+
+    /** @param p the vector. @return transpose(this) * p, as {@link JSOFA#jauTrxp}. */
+    public Vec3 applyTranspose(Vec3 p)
+    {
+        return new Vec3(
+                m00 * p.x + m10 * p.y + m20 * p.z,
+                m01 * p.x + m11 * p.y + m21 * p.z,
+                m02 * p.x + m12 * p.y + m22 * p.z);
+    }
+
+    /** @param pv the pv-vector. @return this * pv, as {@link JSOFA#jauRxpv}. */
+    public PV apply(PV pv)
+    {
+        return new PV(
+                m00 * pv.px + m01 * pv.py + m02 * pv.pz,
+                m10 * pv.px + m11 * pv.py + m12 * pv.pz,
+                m20 * pv.px + m21 * pv.py + m22 * pv.pz,
+                m00 * pv.vx + m01 * pv.vy + m02 * pv.vz,
+                m10 * pv.vx + m11 * pv.vy + m12 * pv.vz,
+                m20 * pv.vx + m21 * pv.vy + m22 * pv.vz);
+    }
+
+    /** @param pv the pv-vector. @return transpose(this) * pv, as {@link JSOFA#jauTrxpv}. */
+    public PV applyTranspose(PV pv)
+    {
+        return new PV(
+                m00 * pv.px + m10 * pv.py + m20 * pv.pz,
+                m01 * pv.px + m11 * pv.py + m21 * pv.pz,
+                m02 * pv.px + m12 * pv.py + m22 * pv.pz,
+                m00 * pv.vx + m10 * pv.vy + m20 * pv.vz,
+                m01 * pv.vx + m11 * pv.vy + m21 * pv.vz,
+                m02 * pv.vx + m12 * pv.vy + m22 * pv.vz);
+    }
+
+    /** @param phi angle (radians). @return the matrix with an additional rotation about the x-axis, as {@link JSOFA#jauRx}. */
+    public Mat3 rotateX(double phi)
+    {
+        double s = sin(phi), c = cos(phi);
+        return new Mat3(m00, m01, m02,
+                  c*m10 + s*m20,   c*m11 + s*m21,   c*m12 + s*m22,
+                - s*m10 + c*m20, - s*m11 + c*m21, - s*m12 + c*m22);
+    }
+
+    /** @param theta angle (radians). @return the matrix with an additional rotation about the y-axis, as {@link JSOFA#jauRy}. */
+    public Mat3 rotateY(double theta)
+    {
+        double s = sin(theta), c = cos(theta);
+        return new Mat3(c*m00 - s*m20, c*m01 - s*m21, c*m02 - s*m22,
+                m10, m11, m12,
+                s*m00 + c*m20, s*m01 + c*m21, s*m02 + c*m22);
+    }
+
+    /** @param psi angle (radians). @return the matrix with an additional rotation about the z-axis, as {@link JSOFA#jauRz}. */
+    public Mat3 rotateZ(double psi)
+    {
+        double s = sin(psi), c = cos(psi);
+        return new Mat3(  c*m00 + s*m10,   c*m01 + s*m11,   c*m02 + s*m12,
+                        - s*m00 + c*m10, - s*m01 + c*m11, - s*m02 + c*m12,
+                m20, m21, m22);
+    }
+
+    /**
+     * Celestial-to-intermediate matrix given the CIP X,Y and the CIO locator s, as {@link JSOFA#jauC2ixys}.
+     *     @param x double  Celestial Intermediate Pole
+     *     @param y double  Celestial Intermediate Pole
+     *     @param s double  the CIO locator s
+     *     @return celestial-to-intermediate matrix
+     */
+    public static Mat3 c2ixys(double x, double y, double s)
+    {
+        double r2, e, d;
+
+        r2 = x*x + y*y;
+        e = (r2 > 0.0) ? atan2(y, x) : 0.0;
+        d = atan(sqrt(r2 / (1.0 - r2)));
+
+        return IDENTITY.rotateZ(e).rotateY(d).rotateZ(-(e+s));
+    }
+
+    /**
+     * Rotation matrix given the Fukushima-Williams angles, as {@link JSOFA#jauFw2m}.
+     *     @param gamb double  F-W angle gamma_bar (radians)
+     *     @param phib double  F-W angle phi_bar (radians)
+     *     @param psi  double  F-W angle psi (radians)
+     *     @param eps  double  F-W angle epsilon (radians)
+     *     @return rotation matrix
+     */
+    public static Mat3 fw2m(double gamb, double phib, double psi, double eps)
+    {
+        return IDENTITY.rotateZ(gamb).rotateX(phib).rotateZ(-psi).rotateX(-eps);
+    }
+
+    /**
+     * Bias-precession-nutation matrix, IAU 2006/2000A, as {@link JSOFA#jauPnm06a}.
+     *     @param date1 double TT as a 2-part Julian Date
+     *     @param date2 double TT as a 2-part Julian Date
+     *     @return bias-precession-nutation matrix
+     */
+    public static Mat3 pnm06a(double date1, double date2)
+    {
+        FWPrecessionAngles fw = JSOFA.jauPfw06(date1, date2);
+        NutationTerms nut = JSOFA.jauNut06a(date1, date2);
+        return fw2m(fw.gamb, fw.phib, fw.psib + nut.dpsi, fw.epsa + nut.deps);
+    }
+
+    /**
+     * Celestial-to-intermediate matrix, IAU 2006/2000A, as {@link JSOFA#jauC2i06a}.
+     *     @param date1 double TT as a 2-part Julian Date
+     *     @param date2 double TT as a 2-part Julian Date
+     *     @return celestial-to-intermediate matrix
+     */
+    public static Mat3 c2i06a(double date1, double date2)
+    {
+        /* The CIP X,Y are the bottom row of the bias-precession-nutation matrix, as jauBpn2xy. */
+        Mat3 rbpn = pnm06a(date1, date2);
+        return c2ixys(rbpn.m20, rbpn.m21, JSOFA.jauS06(date1, date2, rbpn.m20, rbpn.m21));
+    }
+
+    /**
+     * Polar motion matrix, as {@link JSOFA#jauPom00}.
+     *     @param xp double  coordinates of the pole (radians)
+     *     @param yp double  coordinates of the pole (radians)
+     *     @param sp double  the TIO locator s' (radians)
+     *     @return polar-motion matrix
+     */
+    public static Mat3 pom00(double xp, double yp, double sp)
+    {
+        return IDENTITY.rotateZ(sp).rotateY(-xp).rotateX(-yp);
+    }
+
+    /**
+     * Celestial-to-terrestrial matrix from CIO-based components, as {@link JSOFA#jauC2tcio}.
+     *     @param rc2i  celestial-to-intermediate matrix
+     *     @param era   double Earth rotation angle (radians)
+     *     @param rpom  polar-motion matrix
+     *     @return celestial-to-terrestrial matrix
+     */
+    public static Mat3 c2tcio(Mat3 rc2i, double era, Mat3 rpom)
+    {
+        return rpom.times(rc2i.rotateZ(era));
+    }
+
+    /**
+     * Celestial-to-terrestrial matrix, IAU 2006/2000A, as {@link JSOFA#jauC2t06a(double, double, double, double, double, double, double[][])}.
+     *     @param tta double TT as a 2-part Julian Date
+     *     @param ttb double TT as a 2-part Julian Date
+     *     @param uta double UT1 as a 2-part Julian Date
+     *     @param utb double UT1 as a 2-part Julian Date
+     *     @param xp double CIP coordinates (radians)
+     *     @param yp double CIP coordinates (radians)
+     *     @return celestial-to-terrestrial matrix
+     */
+    public static Mat3 c2t06a(double tta, double ttb, double uta, double utb, double xp, double yp)
+    {
+        return c2tcio(c2i06a(tta, ttb), JSOFA.jauEra00(uta, utb), pom00(xp, yp, JSOFA.jauSp00(tta, ttb)));
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof Mat3)) return false;
+        Mat3 o = (Mat3) obj;
+        return Double.doubleToLongBits(m00) == Double.doubleToLongBits(o.m00)
+                && Double.doubleToLongBits(m01) == Double.doubleToLongBits(o.m01)
+                && Double.doubleToLongBits(m02) == Double.doubleToLongBits(o.m02)
+                && Double.doubleToLongBits(m10) == Double.doubleToLongBits(o.m10)
+                && Double.doubleToLongBits(m11) == Double.doubleToLongBits(o.m11)
+                && Double.doubleToLongBits(m12) == Double.doubleToLongBits(o.m12)
+                && Double.doubleToLongBits(m20) == Double.doubleToLongBits(o.m20)
+                && Double.doubleToLongBits(m21) == Double.doubleToLongBits(o.m21)
+                && Double.doubleToLongBits(m22) == Double.doubleToLongBits(o.m22);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        long h = Double.doubleToLongBits(m00);
+        h = 31 * h + Double.doubleToLongBits(m01);
+        h = 31 * h + Double.doubleToLongBits(m02);
+        h = 31 * h + Double.doubleToLongBits(m10);
+        h = 31 * h + Double.doubleToLongBits(m11);
+        h = 31 * h + Double.doubleToLongBits(m12);
+        h = 31 * h + Double.doubleToLongBits(m20);
+        h = 31 * h + Double.doubleToLongBits(m21);
+        h = 31 * h + Double.doubleToLongBits(m22);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[[" + m00 + ", " + m01 + ", " + m02 + "], [" + m10 + ", " + m11 + ", " + m12 + "], ["
+                + m20 + ", " + m21 + ", " + m22 + "]]";
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+/**
+ * An immutable pv-vector (position and velocity) with flat fields - an alternative to the double[2][3]
+ * used by the JSOFA functions.
+ *
+ * <p>The arithmetic is carried out exactly as in the corresponding JSOFA function (named in each method),
+ * so the results are the same.
+ *
+ * @see Vec3
+ * @see Mat3
+ */
+public final class PV {
+
+    /** Position. */
+    public final double px, py, pz;
+
+    /** Velocity. */
+    public final double vx, vy, vz;
+
+    public PV(double px, double py, double pz, double vx, double vy, double vz)
+    {
+        this.px = px;
+        this.py = py;
+        this.pz = pz;
+        this.vx = vx;
+        this.vy = vy;
+        this.vz = vz;
+    }
+
+    public PV(Vec3 p, Vec3 v)
+    {
+        this(p.x, p.y, p.z, v.x, v.y, v.z);
+    }
+
+    /**
+     * @param pv double[2][3] pv-vector
+     * @return the pv-vector with the same components.
+     */
+    public static PV of(double pv[][])
+    {
+        return new PV(pv[0][0], pv[0][1], pv[0][2], pv[1][0], pv[1][1], pv[1][2]);
+    }
+
+    /**
+     * @return a new double[2][3] with the components.
+     */
+    public double[][] toArray()
+    {
+        return into(new double[2][3]);
+    }
+
+    /**
+     * @param pv double[2][3] <u>returned</u> the components.
+     * @return pv
+     */
+    public double[][] into(double pv[][])
+    {
+        pv[0][0] = px;
+        pv[0][1] = py;
+        pv[0][2] = pz;
+        pv[1][0] = vx;
+        pv[1][1] = vy;
+        pv[1][2] = vz;
+        return pv;
+    }
+
+    /** @return the position. */
+    public Vec3 p()
+    {
+        return new Vec3(px, py, pz);
+    }
+
+    /** @return the velocity. */
+    public Vec3 v()
+    {
+        return new Vec3(vx, vy, vz);
+    }
+
+    /** @param b the other pv-vector. @return this + b, as {@link JSOFA#jauPvppv}. */
+    public PV plus(PV b)
+    {
+        return new PV(px + b.px, py + b.py, pz + b.pz, vx + b.vx, vy + b.vy, vz + b.vz);
+    }
+
+    /** @param b the other pv-vector. @return this - b, as {@link JSOFA#jauPvmpv}. */
+    public PV minus(PV b)
+    {
+        return new PV(px - b.px, py - b.py, pz - b.pz, vx - b.vx, vy - b.vy, vz - b.vz);
+    }
+
+    /** @param dt time interval. @return the pv-vector updated for dt, as {@link JSOFA#jauPvu}. */
+    public PV update(double dt)
+    {
+        return new PV(px + dt * vx, py + dt * vy, pz + dt * vz, vx, vy, vz);
+    }
+
+    /** @param b the other pv-vector. @return this x b, as {@link JSOFA#jauPvxpv}. */
+    public PV cross(PV b)
+    {
+        return new PV(py * b.pz - pz * b.py, pz * b.px - px * b.pz, px * b.py - py * b.px,
+                (py * b.vz - pz * b.vy) + (vy * b.pz - vz * b.py),
+                (pz * b.vx - px * b.vz) + (vz * b.px - vx * b.pz),
+                (px * b.vy - py * b.vx) + (vx * b.py - vy * b.px));
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof PV)) return false;
+        PV o = (PV) obj;
+        return p().equals(o.p()) && v().equals(o.v());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * p().hashCode() + v().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[" + p() + ", " + v() + "]";
+    }
+}
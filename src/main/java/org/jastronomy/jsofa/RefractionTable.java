@@ -0,0 +1,255 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.jastronomy.jsofa.JSOFA.jauRefco;
+
+import org.jastronomy.jsofa.JSOFA.Astrom;
+import org.jastronomy.jsofa.JSOFA.RefCos;
+
+/**
+ * A table of the refraction model used by {@link JSOFA#jauAtioq}, for the ambient conditions at an observer.
+ *
+ * <p>{@link JSOFA#jauAtioq} applies the refraction constants A and B from {@link JSOFA#jauRefco} through the model
+ * dZ = A tan Z + B tan^3 Z with a Newton-Raphson correction. This class tabulates that model against the cosine of the
+ * topocentric zenith distance, as piecewise cubics, so that the refraction for a target is found in constant time with a
+ * clamped index and no data dependent branches. The quantity tabulated is the refraction divided by the sine of the zenith
+ * distance, which is smooth in the cosine all the way from the zenith to the nadir. With the default size the largest
+ * difference from the model itself is at zenith distances between 87 degrees and the 87.13 degree limit of the refraction
+ * model, beyond which the model is held at its limit: it is 0.008 milliarcseconds for the conditions of the jauAtioq
+ * example, 0.010 for 1013.25 hPa and 15 deg C, and reaches 0.015 at 1100 hPa in the ultraviolet. It is under 0.0001
+ * milliarcseconds at zenith distances less than 85 degrees and under a microarcsecond at less than 80 degrees, and it
+ * is smaller below the horizon limit than above it. Halving the size increases the errors by a factor of 16.
+ *
+ * <p>The table is rebuilt by {@link #setAmbient} when the pressure, temperature or humidity have moved by more than
+ * the configured steps from the values that the table was last built for, or the wavelength has changed at all;
+ * smaller changes are ignored, so that a stream of weather readings does not cause a rebuild every time.
+ *
+ * <p>Instances are not thread safe - the table is rebuilt in place.
+ */
+public final class RefractionTable {
+
+    /** The default number of intervals between zenith distance 0 and the horizon limit of {@link JSOFA#jauAtioq}. */
+    public static final int DEFAULT_SIZE = 1024;
+
+    /** The default pressure change that causes a rebuild (hPa). */
+    public static final double DEFAULT_PRESSURE_STEP = 0.1;
+
+    /** The default temperature change that causes a rebuild (deg C). */
+    public static final double DEFAULT_TEMPERATURE_STEP = 0.1;
+
+    /** The default relative humidity change that causes a rebuild. */
+    public static final double DEFAULT_HUMIDITY_STEP = 0.01;
+
+    /* Minimum sin(alt) for refraction purposes, as in jauAtioq - it is always a node of the table. */
+    private static final double SELMIN = 0.05;
+
+    private final double pressureStep, temperatureStep, humidityStep;
+
+    /* The interval, the cosine of zenith distance at the start of the table and the number of intervals. */
+    private final double h, zlo;
+    private final int nint;
+
+    /* Cubic coefficients in the fraction of the interval, 4 per interval. */
+    private final double coef[];
+
+    /* The conditions the table was built for, and the refraction constants. */
+    private double phpa, tc, rh, wl, refa, refb;
+    private int builds;
+
+    /**
+     * Create a table of the default size, with the default rebuild steps.
+     *
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *
+     * @throws JSOFAIllegalParameter declared as for the full constructor, but the default size and steps are valid.
+     * @see JSOFA#jauRefco for the details of the arguments.
+     */
+    public RefractionTable(double phpa, double tc, double rh, double wl) throws JSOFAIllegalParameter
+    {
+        this(phpa, tc, rh, wl, DEFAULT_SIZE, DEFAULT_PRESSURE_STEP, DEFAULT_TEMPERATURE_STEP, DEFAULT_HUMIDITY_STEP);
+    }
+
+    /**
+     * Create a table.
+     *
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *     @param size    int         number of intervals above the horizon limit
+     *     @param pressureStep    double  pressure change that causes a rebuild (hPa)
+     *     @param temperatureStep double  temperature change that causes a rebuild (deg C)
+     *     @param humidityStep    double  relative humidity change that causes a rebuild
+     *
+     * @throws JSOFAIllegalParameter if the size is less than one or a step is negative.
+     * @see JSOFA#jauRefco for the details of the arguments.
+     */
+    public RefractionTable(double phpa, double tc, double rh, double wl, int size,
+            double pressureStep, double temperatureStep, double humidityStep) throws JSOFAIllegalParameter
+    {
+        if (size < 1 || !(pressureStep >= 0.0) || !(temperatureStep >= 0.0) || !(humidityStep >= 0.0)) {
+            throw new JSOFAIllegalParameter("bad table size or rebuild step", -1);
+        }
+        this.pressureStep = pressureStep;
+        this.temperatureStep = temperatureStep;
+        this.humidityStep = humidityStep;
+
+        /* Equal intervals from the horizon limit to the zenith, continued down to the nadir. */
+        h = (1.0 - SELMIN) / size;
+        int below = (int) Math.ceil((1.0 + SELMIN) / h);
+        zlo = SELMIN - below * h;
+        nint = size + below;
+        coef = new double[4 * nint];
+
+        build(phpa, tc, rh, wl);
+    }
+
+    /**
+     * Change the ambient conditions and the wavelength, rebuilding the table if they have moved far enough from those
+     * it was built for.
+     *
+     *     @param phpa    double      pressure at the observer (hPa = mB)
+     *     @param tc      double      ambient temperature at the observer (deg C)
+     *     @param rh      double      relative humidity at the observer (range 0-1)
+     *     @param wl      double      wavelength (micrometers)
+     *     @return        boolean     true if the table was rebuilt.
+     */
+    public boolean setAmbient(double phpa, double tc, double rh, double wl)
+    {
+        if (Math.abs(phpa - this.phpa) > pressureStep || Math.abs(tc - this.tc) > temperatureStep
+                || Math.abs(rh - this.rh) > humidityStep || wl != this.wl) {
+            build(phpa, tc, rh, wl);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The refraction for a topocentric direction, as in {@link JSOFA#jauAtioq}.
+     *
+     *     @param cz      double      cosine of the topocentric zenith distance
+     *     @param sz      double      sine of the topocentric zenith distance
+     *     @return        double      the refraction, i.e. the reduction in zenith distance (radians)
+     */
+    public double refraction(double cz, double sz)
+    {
+        double u = (cz - zlo) / h;
+        int i = Math.min(Math.max((int) u, 0), nint - 1);
+        double t = u - i;
+        int k = 4 * i;
+        return (coef[k] + t * (coef[k + 1] + t * (coef[k + 2] + t * coef[k + 3]))) * sz;
+    }
+
+    /**
+     * Quick CIRS to observed place transformation for many targets, taking the refraction from this table. This is
+     * the same as {@link JSOFA#jauAtioq(double[], double[], Astrom, double[], double[], double[], double[], double[])}
+     * except that the refraction constants in the astrometry parameters are not used.
+     *
+     *     @param ri     double[n]   CIRS right ascension (radians)
+     *     @param di     double[n]   CIRS declination (radians)
+     *     @param astrom Astrom      star-independent astrometry parameters
+     *     @param aob    double[n]   <b>Returned</b> observed azimuth (radians: N=0,E=90)
+     *     @param zob    double[n]   <b>Returned</b> observed zenith distance (radians)
+     *     @param hob    double[n]   <b>Returned</b> observed hour angle (radians)
+     *     @param dob    double[n]   <b>Returned</b> observed declination (radians)
+     *     @param rob    double[n]   <b>Returned</b> observed right ascension (CIO-based, radians)
+     *
+     *  Note: all the arrays must be of the same length; any of the returned arrays may be null if
+     *  that coordinate is not wanted.
+     */
+    public void atioq(double ri[], double di[], Astrom astrom,
+            double aob[], double zob[], double hob[], double dob[], double rob[])
+    {
+        double v[] = new double[3], ob[] = new double[5],
+               sx = Math.sin(astrom.xpl), cx = Math.cos(astrom.xpl),
+               sy = Math.sin(astrom.ypl), cy = Math.cos(astrom.ypl);
+
+        for (int n = 0; n < ri.length; n++) {
+            JSOFA.atioq(ri[n], di[n], astrom, sx, cx, sy, cy, this, v, ob);
+            if (aob != null) aob[n] = ob[0];
+            if (zob != null) zob[n] = ob[1];
+            if (hob != null) hob[n] = ob[2];
+            if (dob != null) dob[n] = ob[3];
+            if (rob != null) rob[n] = ob[4];
+        }
+    }
+
+    /**
+     * The refraction constants that the table was built from.
+     * @return the constants from {@link JSOFA#jauRefco}.
+     */
+    public RefCos getRefCos()
+    {
+        return new RefCos(refa, refb);
+    }
+
+    /**
+     * The number of times that the table has been built, including at construction.
+     * @return the number of builds.
+     */
+    public int getBuilds()
+    {
+        return builds;
+    }
+
+    /*
+     * Tabulate the model for new conditions. Each interval has the cubic through the model at its ends and
+     * two interior points, so that neighbouring intervals agree at the nodes.
+     */
+    private void build(double phpa, double tc, double rh, double wl)
+    {
+        RefCos ref = jauRefco(phpa, tc, rh, wl);
+        this.phpa = phpa;
+        this.tc = tc;
+        this.rh = rh;
+        this.wl = wl;
+        refa = ref.a;
+        refb = ref.b;
+
+        double f3 = model(zlo);
+        for (int i = 0; i < nint; i++) {
+            double z = zlo + i * h;
+            double f0 = f3;
+            double f1 = model(z + h / 3.0);
+            double f2 = model(z + 2.0 * h / 3.0);
+            f3 = model(zlo + (i + 1) * h);
+
+            /* Forward differences at steps of one third, and the monomial coefficients in the fraction t. */
+            double d1 = f1 - f0;
+            double d2 = f2 - 2.0 * f1 + f0;
+            double d3 = f3 - 3.0 * f2 + 3.0 * f1 - f0;
+            int k = 4 * i;
+            coef[k] = f0;
+            coef[k + 1] = 3.0 * (d1 - d2 / 2.0 + d3 / 3.0);
+            coef[k + 2] = 9.0 * (d2 - d3) / 2.0;
+            coef[k + 3] = 27.0 * d3 / 6.0;
+        }
+        builds++;
+    }
+
+    /*
+     * The refraction of jauAtioq divided by the sine of the zenith distance, for a given cosine of the zenith distance.
+     * The tangent is not clamped at the nadir, so that the function stays smooth over the first interval of the
+     * table, which starts just beyond it.
+     */
+    private double model(double cz)
+    {
+        double z = Math.max(cz, SELMIN);
+        double tz2 = (1.0 - cz * cz) / (z * z);
+        double w = refb * tz2;
+        return (refa + w) / z / (1.0 + (refa + 3.0 * w) / (z * z));
+    }
+}
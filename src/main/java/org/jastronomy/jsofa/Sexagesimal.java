@@ -0,0 +1,590 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import java.nio.ByteBuffer;
+
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
+
+/**
+ * Formatting of angles, times and dates as text, and parsing of angles and times from text, without intermediate
+ * Strings.
+ *
+ * <p>The fields are those of {@link JSOFA#jauA2af}, {@link JSOFA#jauA2tf}, {@link JSOFA#jauD2tf}, {@link JSOFA#jauD2dtf}
+ * and {@link JSOFA#jauJdcalf}, with the same rounding, and are written straight into a caller supplied
+ * {@link StringBuilder}, {@code char[]} or {@link ByteBuffer} (as ASCII). The layouts are
+ * <pre>
+ *     degrees     +dd:mm:ss.fff          sign always given
+ *     hours       hh:mm:ss.fff           sign given only if negative
+ *     time        hh:mm:ss.fff           sign given only if negative
+ *     date        yyyy-mm-ddThh:mm:ss.fff    (ISO 8601)
+ *     calendar    yyyy-mm-dd.ffff
+ * </pre>
+ * where the number of decimal places is the resolution ndp given to the constructor, and there is no decimal point if
+ * ndp is zero or negative. The leading field has at least two digits (four for the year), and more if necessary.
+ * The separator of the sexagesimal fields can be chosen; the date always uses ':'. As with the JSOFA functions, it is
+ * up to the caller to deal with an angle that rounds up to 360 degrees or 24 hours.
+ *
+ * <p>The parse methods are the reverse, for the sexagesimal layouts - an optional sign, then the integer
+ * leading field and minutes, and the seconds with an optional fraction, separated by ':' or by spaces, with optional
+ * leading and trailing spaces. The fields are given to {@link JSOFA#jauAf2a}, {@link JSOFA#jauTf2a} or
+ * {@link JSOFA#jauTf2d}, so the result is the same as from those functions with the seconds parsed by
+ * {@link Double#parseDouble}. Byte buffers are read with absolute gets, so their position is not changed, and a
+ * {@link java.nio.MappedByteBuffer} can be parsed in place.
+ *
+ * <p>Instances are not thread safe - they hold workspace for the fields; the parse methods are static.
+ */
+public final class Sexagesimal {
+
+    /* Powers of ten that are exact as doubles. */
+    private static final double POW10[] = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /*
+     * The most digits of a decimal that are parsed without Double.parseDouble. The value is m / 10^nf for the
+     * integer m of the digits, which is correctly rounded when m and 10^nf are exact doubles.
+     */
+    private static final int FAST_DIGITS = 15;
+
+    /* The kinds of parsed value. */
+    private static final int DEGREES = 0, HOURS = 1, DAYS = 2;
+
+    private final int ndp;
+    private final char separator;
+
+    /* Workspace - the formatted text, the fields and a day. */
+    private final char buf[] = new char[48];
+    private final int ihmsf[] = new int[4];
+    private final JulianDate day = new JulianDate(0.0, 0.0);
+
+    /**
+     * Create a formatter with ':' as the separator.
+     *
+     *     @param ndp     int     resolution, as for {@link JSOFA#jauD2tf}
+     *
+     * @throws JSOFAIllegalParameter if ndp is outside the range -5 to 9.
+     */
+    public Sexagesimal(int ndp) throws JSOFAIllegalParameter
+    {
+        this(ndp, ':');
+    }
+
+    /**
+     * Create a formatter.
+     *
+     *     @param ndp       int     resolution, as for {@link JSOFA#jauD2tf}
+     *     @param separator char    separator of the sexagesimal fields, e.g. ':' or ' '
+     *
+     * @throws JSOFAIllegalParameter if ndp is outside the range -5 to 9.
+     */
+    public Sexagesimal(int ndp, char separator) throws JSOFAIllegalParameter
+    {
+        if (ndp < -5 || ndp > 9) {
+            throw new JSOFAIllegalParameter("resolution out of range", -1);
+        }
+        this.ndp = ndp;
+        this.separator = separator;
+    }
+
+    /**
+     * Format an angle as degrees, arcminutes and arcseconds, as {@link JSOFA#jauA2af}.
+     *
+     *     @param angle   double         angle in radians
+     *     @param sb      StringBuilder  <b>Returned</b> the text is appended
+     *     @return the StringBuilder.
+     */
+    public StringBuilder formatDegrees(double angle, StringBuilder sb)
+    {
+        return sb.append(buf, 0, degrees(angle));
+    }
+
+    /**
+     * Format an angle as degrees, arcminutes and arcseconds into a char array.
+     *
+     *     @param angle   double     angle in radians
+     *     @param out     char[]     <b>Returned</b> the text is written...
+     *     @param off     int        ...starting here
+     *     @return the offset after the text.
+     */
+    public int formatDegrees(double angle, char out[], int off)
+    {
+        return copy(degrees(angle), out, off);
+    }
+
+    /**
+     * Format an angle as degrees, arcminutes and arcseconds into a byte buffer.
+     *
+     *     @param angle   double       angle in radians
+     *     @param bb      ByteBuffer   <b>Returned</b> the text is put at the position
+     *     @return the ByteBuffer.
+     */
+    public ByteBuffer formatDegrees(double angle, ByteBuffer bb)
+    {
+        return put(degrees(angle), bb);
+    }
+
+    /**
+     * Format an angle as hours, minutes and seconds, as {@link JSOFA#jauA2tf}.
+     *
+     *     @param angle   double         angle in radians
+     *     @param sb      StringBuilder  <b>Returned</b> the text is appended
+     *     @return the StringBuilder.
+     */
+    public StringBuilder formatHours(double angle, StringBuilder sb)
+    {
+        return sb.append(buf, 0, hours(angle));
+    }
+
+    /**
+     * Format an angle as hours, minutes and seconds into a char array.
+     *
+     *     @param angle   double     angle in radians
+     *     @param out     char[]     <b>Returned</b> the text is written...
+     *     @param off     int        ...starting here
+     *     @return the offset after the text.
+     */
+    public int formatHours(double angle, char out[], int off)
+    {
+        return copy(hours(angle), out, off);
+    }
+
+    /**
+     * Format an angle as hours, minutes and seconds into a byte buffer.
+     *
+     *     @param angle   double       angle in radians
+     *     @param bb      ByteBuffer   <b>Returned</b> the text is put at the position
+     *     @return the ByteBuffer.
+     */
+    public ByteBuffer formatHours(double angle, ByteBuffer bb)
+    {
+        return put(hours(angle), bb);
+    }
+
+    /**
+     * Format an interval in days as hours, minutes and seconds, as {@link JSOFA#jauD2tf}.
+     *
+     *     @param days    double         interval in days
+     *     @param sb      StringBuilder  <b>Returned</b> the text is appended
+     *     @return the StringBuilder.
+     */
+    public StringBuilder formatTime(double days, StringBuilder sb)
+    {
+        return sb.append(buf, 0, time(days));
+    }
+
+    /**
+     * Format an interval in days as hours, minutes and seconds into a char array.
+     *
+     *     @param days    double     interval in days
+     *     @param out     char[]     <b>Returned</b> the text is written...
+     *     @param off     int        ...starting here
+     *     @return the offset after the text.
+     */
+    public int formatTime(double days, char out[], int off)
+    {
+        return copy(time(days), out, off);
+    }
+
+    /**
+     * Format an interval in days as hours, minutes and seconds into a byte buffer.
+     *
+     *     @param days    double       interval in days
+     *     @param bb      ByteBuffer   <b>Returned</b> the text is put at the position
+     *     @return the ByteBuffer.
+     */
+    public ByteBuffer formatTime(double days, ByteBuffer bb)
+    {
+        return put(time(days), bb);
+    }
+
+    /**
+     * Format a 2-part Julian Date as an ISO 8601 date and time, as {@link JSOFA#jauD2dtf}. In the case of UTC a
+     * leap second is written as 23:59:60.
+     *
+     *     @param scale   TimeScale      time scale
+     *     @param d1      double         time as a 2-part...
+     *     @param d2      double         ...Julian Date
+     *     @param sb      StringBuilder  <b>Returned</b> the text is appended
+     *     @return the StringBuilder.
+     *
+     * @throws JSOFAIllegalParameter unacceptable date
+     * @throws JSOFAInternalError an internal error has occured
+     */
+    public StringBuilder formatDate(TimeScale scale, double d1, double d2, StringBuilder sb)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return sb.append(buf, 0, date(scale, d1, d2));
+    }
+
+    /**
+     * Format a 2-part Julian Date as an ISO 8601 date and time into a char array.
+     *
+     *     @param scale   TimeScale  time scale
+     *     @param d1      double     time as a 2-part...
+     *     @param d2      double     ...Julian Date
+     *     @param out     char[]     <b>Returned</b> the text is written...
+     *     @param off     int        ...starting here
+     *     @return the offset after the text.
+     *
+     * @throws JSOFAIllegalParameter unacceptable date
+     * @throws JSOFAInternalError an internal error has occured
+     */
+    public int formatDate(TimeScale scale, double d1, double d2, char out[], int off)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return copy(date(scale, d1, d2), out, off);
+    }
+
+    /**
+     * Format a 2-part Julian Date as an ISO 8601 date and time into a byte buffer.
+     *
+     *     @param scale   TimeScale    time scale
+     *     @param d1      double       time as a 2-part...
+     *     @param d2      double       ...Julian Date
+     *     @param bb      ByteBuffer   <b>Returned</b> the text is put at the position
+     *     @return the ByteBuffer.
+     *
+     * @throws JSOFAIllegalParameter unacceptable date
+     * @throws JSOFAInternalError an internal error has occured
+     */
+    public ByteBuffer formatDate(TimeScale scale, double d1, double d2, ByteBuffer bb)
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        return put(date(scale, d1, d2), bb);
+    }
+
+    /**
+     * Format a 2-part Julian Date as a calendar date and fraction of a day, as {@link JSOFA#jauJdcalf}; the
+     * number of decimal places is ndp if it is in the range 0-9, and 0 otherwise.
+     *
+     *     @param dj1     double         dj1+dj2 = Julian Date
+     *     @param dj2     double         dj1+dj2 = Julian Date
+     *     @param sb      StringBuilder  <b>Returned</b> the text is appended
+     *     @return the StringBuilder.
+     *
+     * @throws JSOFAIllegalParameter date out of range
+     */
+    public StringBuilder formatCalendar(double dj1, double dj2, StringBuilder sb) throws JSOFAIllegalParameter
+    {
+        return sb.append(buf, 0, calendar(dj1, dj2));
+    }
+
+    /**
+     * Format a 2-part Julian Date as a calendar date and fraction of a day into a char array.
+     *
+     *     @param dj1     double     dj1+dj2 = Julian Date
+     *     @param dj2     double     dj1+dj2 = Julian Date
+     *     @param out     char[]     <b>Returned</b> the text is written...
+     *     @param off     int        ...starting here
+     *     @return the offset after the text.
+     *
+     * @throws JSOFAIllegalParameter date out of range
+     */
+    public int formatCalendar(double dj1, double dj2, char out[], int off) throws JSOFAIllegalParameter
+    {
+        return copy(calendar(dj1, dj2), out, off);
+    }
+
+    /**
+     * Format a 2-part Julian Date as a calendar date and fraction of a day into a byte buffer.
+     *
+     *     @param dj1     double       dj1+dj2 = Julian Date
+     *     @param dj2     double       dj1+dj2 = Julian Date
+     *     @param bb      ByteBuffer   <b>Returned</b> the text is put at the position
+     *     @return the ByteBuffer.
+     *
+     * @throws JSOFAIllegalParameter date out of range
+     */
+    public ByteBuffer formatCalendar(double dj1, double dj2, ByteBuffer bb) throws JSOFAIllegalParameter
+    {
+        return put(calendar(dj1, dj2), bb);
+    }
+
+    /**
+     * Parse degrees, arcminutes and arcseconds, as {@link JSOFA#jauAf2a}.
+     *
+     *     @param cs      CharSequence   the text...
+     *     @param start   int            ...from here...
+     *     @param end     int            ...up to here (exclusive)
+     *     @return the angle in radians.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauAf2a}.
+     */
+    public static double parseDegrees(CharSequence cs, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(DEGREES, cs, null, start, end);
+    }
+
+    /**
+     * Parse degrees, arcminutes and arcseconds from ASCII text in a byte buffer.
+     *
+     *     @param bb      ByteBuffer   the text...
+     *     @param start   int          ...from this index...
+     *     @param end     int          ...up to this index (exclusive)
+     *     @return the angle in radians.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauAf2a}.
+     */
+    public static double parseDegrees(ByteBuffer bb, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(DEGREES, null, bb, start, end);
+    }
+
+    /**
+     * Parse hours, minutes and seconds as an angle, as {@link JSOFA#jauTf2a}.
+     *
+     *     @param cs      CharSequence   the text...
+     *     @param start   int            ...from here...
+     *     @param end     int            ...up to here (exclusive)
+     *     @return the angle in radians.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauTf2a}.
+     */
+    public static double parseHours(CharSequence cs, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(HOURS, cs, null, start, end);
+    }
+
+    /**
+     * Parse hours, minutes and seconds as an angle from ASCII text in a byte buffer.
+     *
+     *     @param bb      ByteBuffer   the text...
+     *     @param start   int          ...from this index...
+     *     @param end     int          ...up to this index (exclusive)
+     *     @return the angle in radians.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauTf2a}.
+     */
+    public static double parseHours(ByteBuffer bb, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(HOURS, null, bb, start, end);
+    }
+
+    /**
+     * Parse hours, minutes and seconds as an interval, as {@link JSOFA#jauTf2d}.
+     *
+     *     @param cs      CharSequence   the text...
+     *     @param start   int            ...from here...
+     *     @param end     int            ...up to here (exclusive)
+     *     @return the interval in days.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauTf2d}.
+     */
+    public static double parseTime(CharSequence cs, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(DAYS, cs, null, start, end);
+    }
+
+    /**
+     * Parse hours, minutes and seconds as an interval from ASCII text in a byte buffer.
+     *
+     *     @param bb      ByteBuffer   the text...
+     *     @param start   int          ...from this index...
+     *     @param end     int          ...up to this index (exclusive)
+     *     @return the interval in days.
+     *
+     * @throws JSOFAIllegalParameter if the text is not in the expected layout (-1), or as from {@link JSOFA#jauTf2d}.
+     */
+    public static double parseTime(ByteBuffer bb, int start, int end) throws JSOFAIllegalParameter
+    {
+        return parse(DAYS, null, bb, start, end);
+    }
+
+    /* The text of each layout is formed in buf, and its length returned. */
+
+    private int degrees(double angle)
+    {
+        char sign = JSOFA.jauA2af(ndp, angle, ihmsf);
+        buf[0] = sign;
+        return fields(1, separator);
+    }
+
+    private int hours(double angle)
+    {
+        return signed(JSOFA.jauA2tf(ndp, angle, ihmsf));
+    }
+
+    private int time(double days)
+    {
+        return signed(JSOFA.jauD2tf(ndp, days, ihmsf));
+    }
+
+    private int signed(char sign)
+    {
+        int n = 0;
+        if (sign == '-') buf[n++] = sign;
+        return fields(n, separator);
+    }
+
+    private int date(TimeScale scale, double d1, double d2) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        int ymd = JSOFA.d2dtf(scale == TimeScale.UTC, ndp, d1, d2, day, ihmsf);
+        int n = ymd(0, ymd >> 9, (ymd >> 5) & 15, ymd & 31);
+        buf[n++] = 'T';
+        return fields(n, ':');
+    }
+
+    private int calendar(double dj1, double dj2) throws JSOFAIllegalParameter
+    {
+        if (JSOFA.jauJdcalf(ndp, dj1, dj2, ihmsf) < 0) {
+            throw new JSOFAIllegalParameter("date out of range", -1);
+        }
+        int n = ymd(0, ihmsf[0], ihmsf[1], ihmsf[2]);
+        if (ndp > 0) {
+            buf[n++] = '.';
+            n = digits(n, ihmsf[3], ndp);
+        }
+        return n;
+    }
+
+    /* The calendar date as yyyy-mm-dd from n. */
+    private int ymd(int n, int iy, int im, int id)
+    {
+        if (iy < 0) {
+            buf[n++] = '-';
+            iy = -iy;
+        }
+        n = digits(n, iy, 4);
+        buf[n++] = '-';
+        n = digits(n, im, 2);
+        buf[n++] = '-';
+        return digits(n, id, 2);
+    }
+
+    /* The fields in ihmsf from n. */
+    private int fields(int n, char sep)
+    {
+        n = digits(n, ihmsf[0], 2);
+        buf[n++] = sep;
+        n = digits(n, ihmsf[1], 2);
+        buf[n++] = sep;
+        n = digits(n, ihmsf[2], 2);
+        if (ndp > 0) {
+            buf[n++] = '.';
+            n = digits(n, ihmsf[3], ndp);
+        }
+        return n;
+    }
+
+    /* A non-negative integer from n, with leading zeros to the given width. */
+    private int digits(int n, int v, int width)
+    {
+        int nd = 1;
+        for (int p = 10; nd < 10 && v >= p; p *= 10) nd++;
+        if (nd < width) nd = width;
+        for (int i = n + nd - 1; i >= n; i--) {
+            buf[i] = (char) ('0' + v % 10);
+            v /= 10;
+        }
+        return n + nd;
+    }
+
+    private int copy(int n, char out[], int off)
+    {
+        System.arraycopy(buf, 0, out, off, n);
+        return off + n;
+    }
+
+    private ByteBuffer put(int n, ByteBuffer bb)
+    {
+        for (int i = 0; i < n; i++) {
+            bb.put((byte) buf[i]);
+        }
+        return bb;
+    }
+
+    /*
+     * Parse from either a CharSequence or a ByteBuffer (the other being null).
+     */
+    private static double parse(int kind, CharSequence cs, ByteBuffer bb, int start, int end) throws JSOFAIllegalParameter
+    {
+        char sign = '+';
+        int i = start, n = end, k, f1, f2, nd, nf;
+        long m;
+        double sec;
+
+        /* Trim spaces and take the sign. */
+        while (i < n && ch(cs, bb, i) == ' ') i++;
+        while (n > i && ch(cs, bb, n - 1) == ' ') n--;
+        if (i < n && (ch(cs, bb, i) == '+' || ch(cs, bb, i) == '-')) sign = (char) ch(cs, bb, i++);
+
+        /* Leading field and minutes, at most 9 digits each. */
+        for (k = i, f1 = 0; i < n && i - k < 9 && isDigit(ch(cs, bb, i)); i++) f1 = 10 * f1 + ch(cs, bb, i) - '0';
+        if (i == k) throw bad();
+        i = separator(cs, bb, i, n);
+        for (k = i, f2 = 0; i < n && i - k < 9 && isDigit(ch(cs, bb, i)); i++) f2 = 10 * f2 + ch(cs, bb, i) - '0';
+        if (i == k) throw bad();
+        i = separator(cs, bb, i, n);
+
+        /* Seconds. */
+        k = i;
+        m = 0;
+        nd = 0;
+        nf = 0;
+        for (; i < n && isDigit(ch(cs, bb, i)); i++, nd++) m = 10 * m + ch(cs, bb, i) - '0';
+        if (i == k) throw bad();
+        if (i < n && ch(cs, bb, i) == '.') {
+            for (i++; i < n && isDigit(ch(cs, bb, i)); i++, nd++, nf++) m = 10 * m + ch(cs, bb, i) - '0';
+        }
+        if (i != n) throw bad();
+        sec = decimal(cs, bb, k, n, m, nd, nf);
+
+        switch (kind) {
+        case DEGREES:
+            return JSOFA.jauAf2a(sign, f1, f2, sec);
+        case HOURS:
+            return JSOFA.jauTf2a(sign, f1, f2, sec);
+        default:
+            return JSOFA.jauTf2d(sign, f1, f2, sec);
+        }
+    }
+
+    /*
+     * The value of the decimal text from k to n, given the integer m of its nd digits, nf of which follow the point.
+     */
+    static double decimal(CharSequence cs, ByteBuffer bb, int k, int n, long m, int nd, int nf)
+    {
+        if (nd <= FAST_DIGITS) {
+            return (double) m / POW10[nf];
+        }
+        StringBuilder sb = new StringBuilder(n - k);
+        for (int i = k; i < n; i++) sb.append((char) ch(cs, bb, i));
+        return Double.parseDouble(sb.toString());
+    }
+
+    private static int ch(CharSequence cs, ByteBuffer bb, int i)
+    {
+        return cs != null ? cs.charAt(i) : bb.get(i) & 0xff;
+    }
+
+    private static boolean isDigit(int c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    /* Skip a ':' or a run of spaces. */
+    private static int separator(CharSequence cs, ByteBuffer bb, int i, int n) throws JSOFAIllegalParameter
+    {
+        if (i < n && ch(cs, bb, i) == ':') return i + 1;
+        if (i == n || ch(cs, bb, i) != ' ') throw bad();
+        while (i < n && ch(cs, bb, i) == ' ') i++;
+        return i;
+    }
+
+    private static JSOFAIllegalParameter bad()
+    {
+        return new JSOFAIllegalParameter("bad sexagesimal text", -1);
+    }
+}
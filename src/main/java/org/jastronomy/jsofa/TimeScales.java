@@ -0,0 +1,386 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static org.jastronomy.jsofa.JSOFA.DAYSEC;
+import static org.jastronomy.jsofa.JSOFA.DJM0;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jastronomy.jsofa.JSOFA.JulianDate;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
+
+/**
+ * Conversion of columns of dates from one time scale to another.
+ *
+ * <p>The conversion is made by the same chain of JSOFA functions that would be used for a single date - for example
+ * UTC to TDB is {@link JSOFA#jauUtctai}, {@link JSOFA#jauTaitt} and then {@link JSOFA#jauTttdb} - with the same results,
+ * but each function is applied to the whole column in turn, and nothing is allocated per date. The leap second
+ * conversions, UTC to TAI and back, look up TAI-UTC only when a date falls outside the span between leap seconds
+ * of the previous one, so that a sorted column needs one lookup per leap second rather than several per date;
+ * dates near a leap second, or before 1972, are passed to {@link JSOFA#jauUtctai} or {@link JSOFA#jauTaiutc} as they stand.
+ *
+ * <p>TDB-TT is the geocentric value from {@link JSOFA#jauDtdb}, and UT1 is related to UTC by a constant UT1-UTC.
+ *
+ * <p>The output columns may be the same arrays as the input columns. Exceptions are as from the JSOFA functions, and
+ * leave the output columns partly converted.
+ */
+public final class TimeScales {
+
+    /* Number of dates below which a parallel conversion is not split. */
+    private static final int GRAIN = 8192;
+
+    /* The conversions between neighbouring time scales, named FROM_TO. */
+    private enum Step {
+        UTC_TAI, TAI_UTC, TAI_TT, TT_TAI, TT_TDB, TDB_TT, TDB_TCB, TCB_TDB, TT_TCG, TCG_TT, UTC_UT1, UT1_UTC
+    }
+
+    private TimeScales()
+    {
+    }
+
+    /**
+     * Convert dates between time scales other than UT1.
+     *
+     *     @param from   TimeScale   the time scale of the given dates
+     *     @param to     TimeScale   the time scale wanted
+     *     @param d1     double[n]   dates as 2-part Julian Dates...
+     *     @param d2     double[n]   ...as for the corresponding JSOFA functions
+     *     @param o1     double[n]   <b>Returned</b> converted dates as 2-part...
+     *     @param o2     double[n]   <b>Returned</b> ...Julian Dates
+     *
+     * @throws JSOFAIllegalParameter if either time scale is UT1, or as from the conversion functions.
+     * @throws JSOFAInternalError as from the conversion functions.
+     */
+    public static void convert(TimeScale from, TimeScale to, double d1[], double d2[], double o1[], double o2[])
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        new ConvertTask(steps(from, to, false), 0.0, d1, d2, o1, o2, 0, d1.length).compute();
+    }
+
+    /**
+     * Convert dates between time scales.
+     *
+     *     @param from   TimeScale   the time scale of the given dates
+     *     @param to     TimeScale   the time scale wanted
+     *     @param dut1   double      UT1-UTC (seconds)
+     *     @param d1     double[n]   dates as 2-part Julian Dates...
+     *     @param d2     double[n]   ...as for the corresponding JSOFA functions
+     *     @param o1     double[n]   <b>Returned</b> converted dates as 2-part...
+     *     @param o2     double[n]   <b>Returned</b> ...Julian Dates
+     *
+     * @throws JSOFAIllegalParameter as from the conversion functions.
+     * @throws JSOFAInternalError as from the conversion functions.
+     */
+    public static void convert(TimeScale from, TimeScale to, double dut1, double d1[], double d2[], double o1[], double o2[])
+            throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        new ConvertTask(steps(from, to, true), dut1, d1, d2, o1, o2, 0, d1.length).compute();
+    }
+
+    /**
+     * Convert dates between time scales other than UT1, with the work shared between the threads of a ForkJoinPool.
+     * The arguments and results are as for {@link #convert(TimeScale, TimeScale, double[], double[], double[], double[])},
+     * and the results are the same as when done sequentially.
+     *
+     *     @param pool   the pool to use, for example {@link ForkJoinPool#commonPool()}.
+     */
+    public static void convert(TimeScale from, TimeScale to, double d1[], double d2[], double o1[], double o2[],
+            ForkJoinPool pool) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        pool.invoke(new ConvertTask(steps(from, to, false), 0.0, d1, d2, o1, o2, 0, d1.length));
+    }
+
+    /**
+     * Convert dates between time scales, with the work shared between the threads of a ForkJoinPool.
+     * The arguments and results are as for
+     * {@link #convert(TimeScale, TimeScale, double, double[], double[], double[], double[])},
+     * and the results are the same as when done sequentially.
+     *
+     *     @param pool   the pool to use, for example {@link ForkJoinPool#commonPool()}.
+     */
+    public static void convert(TimeScale from, TimeScale to, double dut1, double d1[], double d2[], double o1[], double o2[],
+            ForkJoinPool pool) throws JSOFAIllegalParameter, JSOFAInternalError
+    {
+        pool.invoke(new ConvertTask(steps(from, to, true), dut1, d1, d2, o1, o2, 0, d1.length));
+    }
+
+    /*
+     * The time scale next to t on the way to TT, in the tree
+     *
+     *   UT1 - UTC - TAI - TT - TDB - TCB
+     *                      |
+     *                     TCG
+     */
+    private static TimeScale towardsTt(TimeScale t)
+    {
+        switch (t) {
+        case UT1:
+            return TimeScale.UTC;
+        case UTC:
+            return TimeScale.TAI;
+        case TCB:
+            return TimeScale.TDB;
+        case TT:
+            return null;
+        default:
+            return TimeScale.TT;
+        }
+    }
+
+    /*
+     * The conversions from one time scale to another: up the tree to the first scale that they have in common, then down.
+     */
+    private static Step[] steps(TimeScale from, TimeScale to, boolean ut1) throws JSOFAIllegalParameter
+    {
+        List<TimeScale> up = new ArrayList<TimeScale>(), down = new ArrayList<TimeScale>();
+        List<Step> steps = new ArrayList<Step>();
+        TimeScale t;
+        int i;
+
+        if (!ut1 && (from == TimeScale.UT1 || to == TimeScale.UT1)) {
+            throw new JSOFAIllegalParameter("UT1-UTC needed for UT1", -1);
+        }
+        for (t = from; t != null; t = towardsTt(t)) up.add(t);
+        for (t = to; !up.contains(t); t = towardsTt(t)) down.add(0, t);
+        for (i = 0; up.get(i) != t; i++) steps.add(Step.valueOf(up.get(i) + "_" + up.get(i + 1)));
+        for (TimeScale d : down) {
+            steps.add(Step.valueOf(t + "_" + d));
+            t = d;
+        }
+        return steps.toArray(new Step[steps.size()]);
+    }
+
+    /*
+     * A conversion of a range of dates, split into halves until small enough to do directly.
+     */
+    @SuppressWarnings("serial")
+    private static final class ConvertTask extends RecursiveAction {
+
+        private final Step steps[];
+        private final double dut1, d1[], d2[], o1[], o2[];
+        private final int from, to;
+
+        ConvertTask(Step steps[], double dut1, double d1[], double d2[], double o1[], double o2[], int from, int to)
+        {
+            this.steps = steps;
+            this.dut1 = dut1;
+            this.d1 = d1;
+            this.d2 = d2;
+            this.o1 = o1;
+            this.o2 = o2;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            int n;
+
+            if (to - from > GRAIN && getPool() != null) {
+                n = (from + to) >>> 1;
+                invokeAll(new ConvertTask(steps, dut1, d1, d2, o1, o2, from, n),
+                          new ConvertTask(steps, dut1, d1, d2, o1, o2, n, to));
+                return;
+            }
+
+            JulianDate t = new JulianDate(0.0, 0.0);
+            double a1[] = d1, a2[] = d2, dtr;
+            int i;
+
+            if (steps.length == 0) {
+                System.arraycopy(d1, from, o1, from, to - from);
+                System.arraycopy(d2, from, o2, from, to - from);
+                return;
+            }
+            for (Step step : steps) {
+                switch (step) {
+                case UTC_TAI:
+                    utctai(a1, a2, t);
+                    break;
+                case TAI_UTC:
+                    taiutc(a1, a2, t);
+                    break;
+                case TAI_TT:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTaitt(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TT_TAI:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTttai(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TT_TDB:
+                    for (i = from; i < to; i++) {
+                        dtr = JSOFA.jauDtdb(a1[i], a2[i], 0.0, 0.0, 0.0, 0.0);
+                        JSOFA.jauTttdb(a1[i], a2[i], dtr, t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TDB_TT:
+                    for (i = from; i < to; i++) {
+                        dtr = JSOFA.jauDtdb(a1[i], a2[i], 0.0, 0.0, 0.0, 0.0);
+                        JSOFA.jauTdbtt(a1[i], a2[i], dtr, t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TDB_TCB:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTdbtcb(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TCB_TDB:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTcbtdb(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TT_TCG:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTttcg(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case TCG_TT:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauTcgtt(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case UTC_UT1:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauUtcut1(a1[i], a2[i], dut1, t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                case UT1_UTC:
+                    for (i = from; i < to; i++) {
+                        JSOFA.jauUt1utc(a1[i], a2[i], dut1, t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                    }
+                    break;
+                }
+                a1 = o1;
+                a2 = o2;
+            }
+        }
+
+        /*
+         * UTC to TAI as jauUtctai, but with TAI-UTC from the span between leap seconds of the previous date when
+         * possible. The span is the days from one change in TAI-UTC up to the day before the next, which is the last
+         * for which jauUtctai finds the same TAI-UTC today and tomorrow.
+         */
+        private void utctai(double a1[], double a2[], JulianDate t)
+        {
+            final LeapSecondTable table = LeapSecondTable.current();
+            boolean big1;
+            int i, k;
+            double u1, u2, djm, a, lo = 0.0, hi = -1.0, dat = 0.0;
+
+            for (i = from; i < to; i++) {
+
+                /* Put the two parts of the UTC into big-first order. */
+                big1 = Math.abs(a1[i]) >= Math.abs(a2[i]);
+                u1 = big1 ? a1[i] : a2[i];
+                u2 = big1 ? a2[i] : a1[i];
+
+                /* The day and fraction. */
+                JSOFA.jd2day(u1, u2, t);
+                djm = t.djm0 - (DJM0 + 0.5);
+
+                /* A new span if needed; none before 1972. */
+                if (!(djm >= lo && djm < hi)) {
+                    k = table.findMjd(djm);
+                    if (k >= table.nera1) {
+                        lo = table.mjd[k];
+                        hi = k + 1 < table.mjd.length ? table.mjd[k + 1] - 1.0 : Double.POSITIVE_INFINITY;
+                        dat = table.delat[k] / DAYSEC;
+                    }
+                    if (!(djm >= lo && djm < hi)) {
+                        JSOFA.jauUtctai(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                        continue;
+                    }
+                }
+
+                /* Assemble the TAI result, preserving the UTC split and order. */
+                a = DJM0 - u1;
+                a += djm;
+                a += t.djm1 + dat;
+                o1[i] = big1 ? u1 : a;
+                o2[i] = big1 ? a : u1;
+            }
+        }
+
+        /*
+         * TAI to UTC as jauTaiutc, but with TAI-UTC from the span between leap seconds of the previous date when
+         * possible. jauTaiutc looks at TAI-UTC for the day before to three days after the date, so the span is
+         * shortened accordingly (with a day to spare at each end).
+         */
+        private void taiutc(double a1[], double a2[], JulianDate t)
+        {
+            final LeapSecondTable table = LeapSecondTable.current();
+            boolean big1;
+            int i, k;
+            double t1, t2, djm, lo = 0.0, hi = -1.0, dat = 0.0;
+
+            for (i = from; i < to; i++) {
+
+                /* Put the two parts of the TAI into big-first order. */
+                big1 = Math.abs(a1[i]) >= Math.abs(a2[i]);
+                t1 = big1 ? a1[i] : a2[i];
+                t2 = big1 ? a2[i] : a1[i];
+                djm = (t1 - DJM0) + t2;
+
+                /* A new span if needed; none before 1972. */
+                if (!(djm >= lo && djm < hi)) {
+                    k = table.findMjd(djm);
+                    if (k >= table.nera1) {
+                        lo = table.mjd[k] + 2.0;
+                        hi = k + 1 < table.mjd.length ? table.mjd[k + 1] - 5.0 : Double.POSITIVE_INFINITY;
+                        dat = table.delat[k] / DAYSEC;
+                    }
+                    if (!(djm >= lo && djm < hi)) {
+                        JSOFA.jauTaiutc(a1[i], a2[i], t);
+                        o1[i] = t.djm0;
+                        o2[i] = t.djm1;
+                        continue;
+                    }
+                }
+
+                /* Subtract TAI-UTC, preserving the TAI order. */
+                t2 -= dat;
+                o1[i] = big1 ? t1 : t2;
+                o2[i] = big1 ? t2 : t1;
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * $Id$
+ *
+ * Created on 17 Oct 2026
+ *
+ * This software is published under the terms of the
+ * software license which has been included
+ * with this distribution in the LICENSE.txt file.
+ *
+ */
+
+package org.jastronomy.jsofa;
+
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+
+/**
+ * An immutable p-vector with flat fields - an alternative to the double[3] used by the JSOFA functions.
+ *
+ * <p>The arithmetic is carried out exactly as in the corresponding JSOFA function (named in each method),
+ * so the results are the same, but as there are no arrays, short-lived instances can be eliminated entirely
+ * by the JIT compiler's escape analysis.
+ *
+ * @see Mat3
+ * @see PV
+ */
+public final class Vec3 {
+
+    /** The null vector. */
+    public static final Vec3 ZERO = new Vec3(0.0, 0.0, 0.0);
+
+    public final double x, y, z;
+
+    public Vec3(double x, double y, double z)
+    {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @param p double[3] p-vector
+     * @return the vector with the same components.
+     */
+    public static Vec3 of(double p[])
+    {
+        return new Vec3(p[0], p[1], p[2]);
+    }
+
+    /**
+     * Unit vector from spherical coordinates, as {@link JSOFA#jauS2c}.
+     * @param theta double longitude angle (radians)
+     * @param phi double latitude angle (radians)
+     * @return direction cosines.
+     */
+    public static Vec3 fromSpherical(double theta, double phi)
+    {
+        double cp = cos(phi);
+        return new Vec3(cos(theta) * cp, sin(theta) * cp, sin(phi));
+    }
+
+    /**
+     * @return a new double[3] with the components.
+     */
+    public double[] toArray()
+    {
+        return into(new double[3]);
+    }
+
+    /**
+     * @param p double[3] <u>returned</u> the components.
+     * @return p
+     */
+    public double[] into(double p[])
+    {
+        p[0] = x;
+        p[1] = y;
+        p[2] = z;
+        return p;
+    }
+
+    /** @param b the other vector. @return this + b, as {@link JSOFA#jauPpp}. */
+    public Vec3 plus(Vec3 b)
+    {
+        return new Vec3(x + b.x, y + b.y, z + b.z);
+    }
+
+    /** @param b the other vector. @return this - b, as {@link JSOFA#jauPmp}. */
+    public Vec3 minus(Vec3 b)
+    {
+        return new Vec3(x - b.x, y - b.y, z - b.z);
+    }
+
+    /** @param s the scalar. @return s * this, as {@link JSOFA#jauSxp}. */
+    public Vec3 scale(double s)
+    {
+        return new Vec3(s * x, s * y, s * z);
+    }
+
+    /** @param s the scalar. @param b the other vector. @return this + s * b, as {@link JSOFA#jauPpsp}. */
+    public Vec3 plusScaled(double s, Vec3 b)
+    {
+        return new Vec3(x + s * b.x, y + s * b.y, z + s * b.z);
+    }
+
+    /** @param b the other vector. @return this . b, as {@link JSOFA#jauPdp}. */
+    public double dot(Vec3 b)
+    {
+        return x * b.x + y * b.y + z * b.z;
+    }
+
+    /** @param b the other vector. @return this x b, as {@link JSOFA#jauPxp}. */
+    public Vec3 cross(Vec3 b)
+    {
+        return new Vec3(y * b.z - z * b.y, z * b.x - x * b.z, x * b.y - y * b.x);
+    }
+
+    /** @return the modulus, as {@link JSOFA#jauPm}. */
+    public double norm()
+    {
+        return sqrt(x * x + y * y + z * z);
+    }
+
+    /** @return the unit vector in the same direction, or the null vector if this is null, as {@link JSOFA#jauPn}. */
+    public Vec3 unit()
+    {
+        double w = norm();
+        return (w == 0.0) ? ZERO : scale(1.0 / w);
+    }
+
+    /** @return the longitude angle (radians), as {@link JSOFA#jauC2s}. */
+    public double theta()
+    {
+        return (x * x + y * y == 0.0) ? 0.0 : atan2(y, x);
+    }
+
+    /** @return the latitude angle (radians), as {@link JSOFA#jauC2s}. */
+    public double phi()
+    {
+        return (z == 0.0) ? 0.0 : atan2(z, sqrt(x * x + y * y));
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof Vec3)) return false;
+        Vec3 o = (Vec3) obj;
+        return Double.doubleToLongBits(x) == Double.doubleToLongBits(o.x)
+                && Double.doubleToLongBits(y) == Double.doubleToLongBits(o.y)
+                && Double.doubleToLongBits(z) == Double.doubleToLongBits(o.z);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        long h = Double.doubleToLongBits(x);
+        h = 31 * h + Double.doubleToLongBits(y);
+        h = 31 * h + Double.doubleToLongBits(z);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[" + x + ", " + y + ", " + z + "]";
+    }
+}
@@ -17,11 +17,14 @@ package org.jastronomy.jsofa;
 import static org.jastronomy.jsofa.JSOFA.*;
 import static org.junit.Assert.*;
 
+import org.jastronomy.jsofa.IsoDateParser;
 import org.jastronomy.jsofa.JSOFA.CatalogCoords;
 import org.jastronomy.jsofa.JSOFA.SphericalCoordinate;
+import org.jastronomy.jsofa.JSOFA.TimeScale;
 import org.jastronomy.jsofa.JSOFAException;
 import org.jastronomy.jsofa.JSOFAIllegalParameter;
 import org.jastronomy.jsofa.JSOFAInternalError;
+import org.jastronomy.jsofa.Sexagesimal;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -780,6 +783,21 @@ public class JSOFATest {
        vvd(rc2t[2][1], 0.3961816829632690581e-4, 1e-12,"jauC2t06a", "32");
        vvd(rc2t[2][2], 0.9999998325501747785, 1e-12,"jauC2t06a", "33");
 
+       /* result returned in a caller supplied matrix */
+       jauC2t06a(tta, ttb, uta, utb, xp, yp, rc2t = new double[3][3]);
+
+       vvd(rc2t[0][0], -0.1810332128305897282, 1e-12,"jauC2t06a", "11 into");
+       vvd(rc2t[0][1], 0.9834769806938592296, 1e-12,"jauC2t06a", "12 into");
+       vvd(rc2t[0][2], 0.6555550962998436505e-4, 1e-12,"jauC2t06a", "13 into");
+
+       vvd(rc2t[1][0], -0.9834768134136214897, 1e-12,"jauC2t06a", "21 into");
+       vvd(rc2t[1][1], -0.1810332203649130832, 1e-12,"jauC2t06a", "22 into");
+       vvd(rc2t[1][2], 0.5749800844905594110e-3, 1e-12,"jauC2t06a", "23 into");
+
+       vvd(rc2t[2][0], 0.5773474024748545878e-3, 1e-12,"jauC2t06a", "31 into");
+       vvd(rc2t[2][1], 0.3961816829632690581e-4, 1e-12,"jauC2t06a", "32 into");
+       vvd(rc2t[2][2], 0.9999998325501747785, 1e-12,"jauC2t06a", "33 into");
+
     }
 
     @Test
@@ -840,6 +858,21 @@ public class JSOFATest {
        vvd(rc2t[2][1], 0.3961832391772658944e-4, 1e-12,"jauC2tcio", "32");
        vvd(rc2t[2][2], 0.9999998325501691969, 1e-12,"jauC2tcio", "33");
 
+       /* result returned in the rc2i argument */
+       jauC2tcio(rc2i, era, rpom, rc2i);
+
+       vvd(rc2i[0][0], -0.1810332128307110439, 1e-12,"jauC2tcio", "11 into");
+       vvd(rc2i[0][1], 0.9834769806938470149, 1e-12,"jauC2tcio", "12 into");
+       vvd(rc2i[0][2], 0.6555535638685466874e-4, 1e-12,"jauC2tcio", "13 into");
+
+       vvd(rc2i[1][0], -0.9834768134135996657, 1e-12,"jauC2tcio", "21 into");
+       vvd(rc2i[1][1], -0.1810332203649448367, 1e-12,"jauC2tcio", "22 into");
+       vvd(rc2i[1][2], 0.5749801116141106528e-3, 1e-12,"jauC2tcio", "23 into");
+
+       vvd(rc2i[2][0], 0.5773474014081407076e-3, 1e-12,"jauC2tcio", "31 into");
+       vvd(rc2i[2][1], 0.3961832391772658944e-4, 1e-12,"jauC2tcio", "32 into");
+       vvd(rc2i[2][2], 0.9999998325501691969, 1e-12,"jauC2tcio", "33 into");
+
     }
 
     @Test
@@ -1197,6 +1230,58 @@ public class JSOFATest {
        
     }
 
+    @Test
+    public void t_leapsecondtable() throws java.io.IOException
+    /*
+    **  Test LeapSecondTable loading and replacement of the table used by jauDat.
+    */
+    {
+       String list = "#$\t3913697179\n#@\t3960057600\n#\n"
+             + "2272060800\t10\t# 1 Jan 1972\n2287785600\t11\t# 1 Jul 1972\n"
+             + "3692217600\t37\t# 1 Jan 2017\n4000000000\t38\t# 3 Oct 2026\n";
+       try {
+          LeapSecondTable.parse(new java.io.StringReader(list));
+          fail("LeapSecondTable should reject a change not at the start of a month");
+       } catch (java.io.IOException e) {
+       }
+
+       list = list.replace("4000000000", "3976214400");
+       LeapSecondTable table = LeapSecondTable.parse(new java.io.StringReader(list));
+       viv(table.size(), 14 + 4, "LeapSecondTable", "size");
+       assertEquals("LeapSecondTable last change", jauCal2jd(2026, 1, 1), table.getLastChange());
+       assertEquals("LeapSecondTable expiry", jauCal2jd(2025, 6, 28), table.getExpiry());
+
+       String dat = "#  File expires on 28 June 2025\n#    MJD        Date        TAI-UTC (s)\n"
+             + "    41317.0    1  1 1972       10\n    41499.0    1  7 1972       11\n"
+             + "    57754.0    1  1 2017       37\n    61041.0    1  1 2026       38\n";
+       LeapSecondTable table2 = LeapSecondTable.parse(new java.io.StringReader(dat));
+       viv(table2.size(), table.size(), "LeapSecondTable", "size");
+       assertEquals("LeapSecondTable expiry", table.getExpiry(), table2.getExpiry());
+
+       /* The free text expiry of leap-seconds.list, with and without the #@ line. */
+       String nist = "#\tFile expires on:  28 December 2025\n" + list;
+       assertEquals("LeapSecondTable #@ expiry", table.getExpiry(),
+               LeapSecondTable.parse(new java.io.StringReader(nist)).getExpiry());
+       nist = nist.replace("#@\t3960057600\n", "");
+       assertEquals("LeapSecondTable comment expiry", jauCal2jd(2025, 12, 28),
+               LeapSecondTable.parse(new java.io.StringReader(nist)).getExpiry());
+
+       assertSame("LeapSecondTable current", LeapSecondTable.BUILT_IN, LeapSecondTable.current());
+       viv(LeapSecondTable.BUILT_IN.size(), leapSeconds.length, "LeapSecondTable", "built in size");
+       double d1965 = jauDat(1965, 5, 3, 0.5);
+       try {
+          LeapSecondTable.install(table);
+          vvd(jauDat(2026, 1, 2, 0.0), 38.0, 0.0, "jauDat", "loaded 2026");
+          vvd(jauDat(2017, 9, 1, 0.0), 37.0, 0.0, "jauDat", "loaded 2017");
+          vvd(jauDat(1972, 3, 1, 0.0), 10.0, 0.0, "jauDat", "loaded 1972");
+          vvd(jauDat(1965, 5, 3, 0.5), d1965, 0.0, "jauDat", "loaded 1965");
+          assertEquals("lastLeapSecondDate", jauCal2jd(2026, 1, 1), lastLeapSecondDate());
+       } finally {
+          LeapSecondTable.install(LeapSecondTable.BUILT_IN);
+       }
+       vvd(jauDat(2026, 1, 2, 0.0), 37.0, 0.0, "jauDat", "built in 2026");
+    }
+
     @Test
     public void t_dtdb()
     /**
@@ -1218,6 +1303,9 @@ public class JSOFATest {
 
        vvd(dtdb, -0.1280368005936998991e-2, 1e-15, "jauDtdb", "");
 
+       vvd(jauDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0, false), dtdb, 0.0, "jauDtdb", "fine");
+       vvd(jauDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0, true), dtdb, 0.6e-6, "jauDtdb", "coarse");
+
     }
 
     @Test
@@ -1597,6 +1685,40 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_epvephemeris() throws java.io.IOException
+    /*
+    **  Test EpvEphemeris against jauEpv00.
+    */
+    {
+       double pvh[][] = new double[2][3], pvb[][] = new double[2][3],
+              eh[][] = new double[2][3], eb[][] = new double[2][3];
+       java.io.File file = java.io.File.createTempFile("jsofa", ".epv");
+       file.deleteOnExit();
+
+       EpvEphemeris.write(2400000.5 + 53400.0, 2400000.5 + 53500.0, file);
+       EpvEphemeris eph = EpvEphemeris.open(file);
+       viv((int) file.length(), 48 + 13 * 12 * 12 * 8, "EpvEphemeris", "length");
+
+       for (double t = 53400.0; t <= 53500.0; t += 0.73) {
+          int j = eph.epv(2400000.5, t, pvh, pvb);
+          jauEpv00(2400000.5, t, eh, eb);
+          viv(j, 0, "EpvEphemeris", "j");
+          for (int i = 0; i < 3; i++) {
+             vvd(pvh[0][i], eh[0][i], 1e-12, "EpvEphemeris", "ph");
+             vvd(pvh[1][i], eh[1][i], 1e-13, "EpvEphemeris", "vh");
+             vvd(pvb[0][i], eb[0][i], 1e-12, "EpvEphemeris", "pb");
+             vvd(pvb[1][i], eb[1][i], 1e-13, "EpvEphemeris", "vb");
+          }
+       }
+
+       try {
+          eph.epv(2400000.5, 53500.5, pvh, pvb);
+          fail("EpvEphemeris should throw exception for date out of range");
+       } catch (JSOFAIllegalParameter e) {
+       }
+    }
+
     @Test
     public void t_eqeq94()
     /**
@@ -1895,6 +2017,151 @@ public class JSOFATest {
            "jauFave03", "");
     }
 
+    @Test
+    public void t_fundamentalarguments()
+    /*
+    **  Test the FundamentalArguments overloads against the date based functions - the results must be identical.
+    */
+    {
+       double d1 = 2400000.5, d2 = 53736.0, x = 0.5791308486706011000e-3, y = 0.4020579816732961219e-4;
+       FundamentalArguments args = new FundamentalArguments(d1, d2);
+       double fa[] = args.toArray();
+
+       vvd(fa[0], jauFal03(args.t), 0.0, "FundamentalArguments", "l");
+       vvd(fa[4], jauFaom03(args.t), 0.0, "FundamentalArguments", "om");
+       vvd(fa[13], jauFapa03(args.t), 0.0, "FundamentalArguments", "pa");
+
+       NutationTerms nut = jauNut00a(d1, d2), nuta = jauNut00a(args);
+       vvd(nuta.dpsi, nut.dpsi, 0.0, "jauNut00a args", "dpsi");
+       vvd(nuta.deps, nut.deps, 0.0, "jauNut00a args", "deps");
+       nut = jauNut06a(d1, d2);
+       nuta = jauNut06a(args);
+       vvd(nuta.dpsi, nut.dpsi, 0.0, "jauNut06a args", "dpsi");
+       vvd(nuta.deps, nut.deps, 0.0, "jauNut06a args", "deps");
+
+       CelestialIntermediatePole cip = jauXy06(d1, d2), cipa = jauXy06(args);
+       vvd(cipa.x, cip.x, 0.0, "jauXy06 args", "x");
+       vvd(cipa.y, cip.y, 0.0, "jauXy06 args", "y");
+
+       vvd(jauS06(args, x, y), jauS06(d1, d2, x, y), 0.0, "jauS06 args", "");
+       vvd(jauEect00(args), jauEect00(d1, d2), 0.0, "jauEect00 args", "");
+
+       double r[][] = jauC2i06a(d1, d2), ra[][] = jauC2i06a(args, new double[3][3]);
+       for (int i = 0; i < 3; i++) {
+          for (int j = 0; j < 3; j++) {
+             vvd(ra[i][j], r[i][j], 0.0, "jauC2i06a args", "r" + i + j);
+          }
+       }
+    }
+
+    @Test
+    public void t_termseries()
+    /*
+    **  Pin the TERM series kernel shared by jauS00, jauS06 and jauEect00 to the values given by the
+    **  per-function loops it replaced, from 1800 to 2200 - the results must be identical.
+    */
+    {
+       double x = 0.5791308486706011000e-3, y = 0.4020579816732961219e-4;
+       double d2[] = {-73048.25, -12345.678, 0.0, 6543.21, 36525.5, 72999.875};
+       double s00[] = {2.7644790069230514E-6, -1.4770990442098671E-8, -2.139886125338914E-8,
+                       -1.7897407383907465E-8, -3.4357364529973175E-7, -2.780508350425502E-6};
+       double s06[] = {2.764438430793585E-6, -1.47730083619273E-8, -2.139886125338914E-8,
+                       -1.7897562288829188E-8, -3.4358343244077627E-7, -2.7805383569090905E-6};
+       double eect[] = {7.255965390628913E-9, 1.1206422039222092E-8, 1.021330096302465E-8,
+                        8.065660824088257E-9, -2.1572706013562463E-9, -7.934051645997578E-9};
+
+       for (int i = 0; i < d2.length; i++) {
+          vvd(jauS00(DJ00, d2[i], x, y), s00[i], 0.0, "TermSeries", "jauS00");
+          vvd(jauS06(DJ00, d2[i], x, y), s06[i], 0.0, "TermSeries", "jauS06");
+          vvd(jauEect00(DJ00, d2[i]), eect[i], 0.0, "TermSeries", "jauEect00");
+       }
+    }
+
+    @Test
+    public void t_recurrence()
+    /*
+    **  Test the recurrence evaluation of jauNut00a and jauXy06 against the direct evaluation, every 73 days from 1800 to 2200.
+    */
+    {
+       for (double d2 = -73050.0; d2 <= 73050.0; d2 += 73.0) {
+          FundamentalArguments args = new FundamentalArguments(DJ00, d2);
+
+          NutationTerms nut = jauNut00a(args), nutr = jauNut00a(args, true);
+          vvd(nutr.dpsi, nut.dpsi, 1e-16, "jauNut00a recurrence", "dpsi");
+          vvd(nutr.deps, nut.deps, 1e-16, "jauNut00a recurrence", "deps");
+
+          CelestialIntermediatePole cip = jauXy06(args), cipr = jauXy06(args, true);
+          vvd(cipr.x, cip.x, 1e-16, "jauXy06 recurrence", "x");
+          vvd(cipr.y, cip.y, 1e-16, "jauXy06 recurrence", "y");
+       }
+    }
+
+    @Test
+    public void t_truncatednutation() throws JSOFAIllegalParameter
+    /*
+    **  Test the truncated nutation against the full series - the differences must be within the error bounds.
+    */
+    {
+       double acc = 1e-3 * DAS2R;
+       TruncatedNutation tn = new TruncatedNutation(acc);
+       assertTrue("TruncatedNutation nutation bound", tn.getNutationErrorBound() <= acc);
+       assertTrue("TruncatedNutation s bound", tn.getSErrorBound() <= acc);
+       assertTrue("TruncatedNutation terms", tn.getNutationTerms() < 1365);
+
+       for (double d2 = -36525.0; d2 <= 36525.0; d2 += 73.0) {
+          FundamentalArguments args = new FundamentalArguments(DJ00, d2);
+
+          NutationTerms nut = jauNut00a(args), nutt = tn.nut00a(args);
+          vvd(nutt.dpsi, nut.dpsi, tn.getNutationErrorBound(), "TruncatedNutation", "dpsi");
+          vvd(nutt.deps, nut.deps, tn.getNutationErrorBound(), "TruncatedNutation", "deps");
+
+          ICRFrame xys = jauXys06a(DJ00, d2), xyst = tn.xys06a(DJ00, d2);
+          vvd(xyst.cip.x, xys.cip.x, tn.getNutationErrorBound(), "TruncatedNutation", "x");
+          vvd(xyst.cip.y, xys.cip.y, tn.getNutationErrorBound(), "TruncatedNutation", "y");
+          vvd(xyst.s, xys.s, tn.getSErrorBound() + 1e-15, "TruncatedNutation", "s");
+       }
+
+       tn = new TruncatedNutation(0.0);
+       NutationTerms nut = tn.nut00a(2400000.5, 53736.0);
+       vvd(nut.dpsi, -0.9630909107115518431e-5, 1e-13, "TruncatedNutation full", "dpsi");
+       vvd(nut.deps,  0.4063239174001678710e-4, 1e-13, "TruncatedNutation full", "deps");
+       vvd(tn.s06(2400000.5, 53736.0, 0.5791308486706011000e-3, 0.4020579816732961219e-4),
+             -0.1220032213076463117e-7, 1e-18, "TruncatedNutation full", "s");
+    }
+
+    @Test
+    public void t_pnm06aseries()
+    /*
+    **  Test the series forms of jauPnm06a and jauC2i06a against separate calls, at 10 minute intervals over two days.
+    */
+    {
+       int n = 289;
+       double step = 10.0 / 1440.0;
+       double rbpn[] = jauPnm06a(2400000.5, 53736.0, step, n, new double[9 * n]);
+       double rc2i[] = jauC2i06a(2400000.5, 53736.0, step, n, new double[9 * n]);
+
+       for (int k = 0; k < n; k += 12) {
+          double r[][] = jauPnm06a(2400000.5, 53736.0 + k * step), c[][] = jauC2i06a(2400000.5, 53736.0 + k * step);
+          for (int i = 0; i < 3; i++) {
+             for (int j = 0; j < 3; j++) {
+                vvd(rbpn[9 * k + 3 * i + j], r[i][j], 5e-16, "jauPnm06a series", "r" + i + j);
+                vvd(rc2i[9 * k + 3 * i + j], c[i][j], 5e-16, "jauC2i06a series", "r" + i + j);
+             }
+          }
+       }
+
+       try {
+          jauPnm06a(2400000.5, 53736.0, step, -1, new double[9]);
+          fail("jauPnm06a series should throw exception for a negative number of epochs");
+       } catch (JSOFAIllegalParameter e) {
+       }
+       try {
+          jauC2i06a(2400000.5, 53736.0, step, n, new double[9 * n - 1]);
+          fail("jauC2i06a series should throw exception for a short array");
+       } catch (JSOFAIllegalParameter e) {
+       }
+    }
+
     @Test
     public void t_fk52h()
     /**
@@ -3195,6 +3462,47 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_plan94all() throws JSOFAIllegalParameter
+    {
+        final int n = 300;
+        double pv[][], all[][][] = new double[8][2][3], flat[] = new double[50],
+               d1[] = new double[n], d2[] = new double[n], seq[] = new double[48 * n], par[] = new double[48 * n];
+        int i, j, k, np, st[] = new int[n], stp[] = new int[n];
+
+        assertEquals(1, jauPlan94(2400000.5, -320000, all));
+        assertEquals(1, jauPlan94(2400000.5, -320000, flat, 2));
+        for (np = 1; np <= 8; np++) {
+            pv = jauPlan94(2400000.5, -320000, np);
+            for (i = 0; i < 2; i++) {
+                for (j = 0; j < 3; j++) {
+                    vvd(all[np-1][i][j], pv[i][j], 0.0, "jauPlan94", "all " + np);
+                    vvd(flat[2 + 6*(np-1) + 3*i + j], pv[i][j], 0.0, "jauPlan94", "flat " + np);
+                }
+            }
+        }
+
+        /* Many dates, sequentially and in parallel. */
+        for (k = 0; k < n; k++) {
+            d1[k] = 2451545.0;
+            d2[k] = 36.525 * k - 5000.0;
+        }
+        jauPlan94(d1, d2, seq, st);
+        jauPlan94(d1, d2, par, stp, java.util.concurrent.ForkJoinPool.commonPool());
+        for (k = 0; k < n; k++) {
+            viv(stp[k], st[k], "jauPlan94", "parallel status");
+        }
+        for (k = 0; k < 48 * n; k++) {
+            vvd(par[k], seq[k], 0.0, "jauPlan94", "parallel pv");
+        }
+        for (k = 0; k < n; k += 37) {
+            assertEquals(0, st[k]);
+            pv = jauPlan94(d1[k], d2[k], 5);
+            vvd(seq[48*k + 24], pv[0][0], 0.0, "jauPlan94", "dates x 5");
+            vvd(seq[48*k + 29], pv[1][2], 0.0, "jauPlan94", "dates zd 5");
+        }
+    }
+
     @Test
     public void t_pmat00()
     /**
@@ -3904,6 +4212,21 @@ public class JSOFATest {
        vvd(rbpn[2][1], -0.4163377605910663999e-4, 1e-14,"jauPnm06a", "32");
        vvd(rbpn[2][2], 0.9999999329094260057, 1e-12,"jauPnm06a", "33");
 
+       /* result returned in a caller supplied matrix */
+       jauPnm06a(2400000.5, 50123.9999, rbpn = new double[3][3]);
+
+       vvd(rbpn[0][0], 0.9999995832794205484, 1e-12,"jauPnm06a", "11 into");
+       vvd(rbpn[0][1], 0.8372382772630962111e-3, 1e-14,"jauPnm06a", "12 into");
+       vvd(rbpn[0][2], 0.3639684771140623099e-3, 1e-14,"jauPnm06a", "13 into");
+
+       vvd(rbpn[1][0], -0.8372533744743683605e-3, 1e-14,"jauPnm06a", "21 into");
+       vvd(rbpn[1][1], 0.9999996486492861646, 1e-12,"jauPnm06a", "22 into");
+       vvd(rbpn[1][2], 0.4132905944611019498e-4, 1e-14,"jauPnm06a", "23 into");
+
+       vvd(rbpn[2][0], -0.3639337469629464969e-3, 1e-14,"jauPnm06a", "31 into");
+       vvd(rbpn[2][1], -0.4163377605910663999e-4, 1e-14,"jauPnm06a", "32 into");
+       vvd(rbpn[2][2], 0.9999999329094260057, 1e-12,"jauPnm06a", "33 into");
+
     }
 
     @Test
@@ -4681,6 +5004,13 @@ public class JSOFATest {
        vvd(rp[1], 3.9, 1e-12, "jauRxp", "2");
        vvd(rp[2], 7.1, 1e-12, "jauRxp", "3");
 
+       /* result returned in the vector argument */
+       jauRxp(r, p, p);
+
+       vvd(p[0], 5.1, 1e-12, "jauRxp", "1 into");
+       vvd(p[1], 3.9, 1e-12, "jauRxp", "2 into");
+       vvd(p[2], 7.1, 1e-12, "jauRxp", "3 into");
+
     }
 
     @Test
@@ -4788,6 +5118,21 @@ public class JSOFATest {
        vvd(atb[2][1], 10.0, 1e-12, "jauRxr", "32");
        vvd(atb[2][2], 15.0, 1e-12, "jauRxr", "33");
 
+       /* result returned in one of the arguments */
+       jauRxr(a, b, a);
+
+       vvd(a[0][0], 20.0, 1e-12, "jauRxr", "11 into");
+       vvd(a[0][1],  7.0, 1e-12, "jauRxr", "12 into");
+       vvd(a[0][2],  9.0, 1e-12, "jauRxr", "13 into");
+
+       vvd(a[1][0], 20.0, 1e-12, "jauRxr", "21 into");
+       vvd(a[1][1],  8.0, 1e-12, "jauRxr", "22 into");
+       vvd(a[1][2], 11.0, 1e-12, "jauRxr", "23 into");
+
+       vvd(a[2][0], 34.0, 1e-12, "jauRxr", "31 into");
+       vvd(a[2][1], 10.0, 1e-12, "jauRxr", "32 into");
+       vvd(a[2][2], 15.0, 1e-12, "jauRxr", "33 into");
+
     }
 
     @Test
@@ -5601,6 +5946,21 @@ public class JSOFATest {
        vvd(rt[2][1], 3.0, 0.0, "jauTr", "32");
        vvd(rt[2][2], 5.0, 0.0, "jauTr", "33");
 
+       /* transpose in place */
+       jauTr(r, r);
+
+       vvd(r[0][0], 2.0, 0.0, "jauTr", "11 into");
+       vvd(r[0][1], 3.0, 0.0, "jauTr", "12 into");
+       vvd(r[0][2], 3.0, 0.0, "jauTr", "13 into");
+
+       vvd(r[1][0], 3.0, 0.0, "jauTr", "21 into");
+       vvd(r[1][1], 2.0, 0.0, "jauTr", "22 into");
+       vvd(r[1][2], 4.0, 0.0, "jauTr", "23 into");
+
+       vvd(r[2][0], 2.0, 0.0, "jauTr", "31 into");
+       vvd(r[2][1], 3.0, 0.0, "jauTr", "32 into");
+       vvd(r[2][2], 5.0, 0.0, "jauTr", "33 into");
+
     }
 
     @Test
@@ -5642,6 +6002,13 @@ public class JSOFATest {
        vvd(trp[1], 4.0, 1e-12, "jauTrxp", "2");
        vvd(trp[2], 5.4, 1e-12, "jauTrxp", "3");
 
+       /* result returned in the vector argument */
+       jauTrxp(r, p, p);
+
+       vvd(p[0], 5.2, 1e-12, "jauTrxp", "1 into");
+       vvd(p[1], 4.0, 1e-12, "jauTrxp", "2 into");
+       vvd(p[2], 5.4, 1e-12, "jauTrxp", "3 into");
+
     }
 
     @Test
@@ -5873,6 +6240,139 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_timescalesink() throws JSOFAIllegalParameter, JSOFAInternalError
+    /*
+    **  Test the time scale functions that write into a caller supplied JulianDate.
+    */
+    {
+       JulianDate t = new JulianDate(0.0, 0.0), a, b;
+       double utc2;
+       int i;
+
+
+       /* Days around the end of 2016 (which ended in a leap second), in steps of 0.9 s. */
+       for (i = 0; i < 400000; i += 997) {
+          utc2 = 57752.0 + (i - 200000) * 0.9 / DAYSEC;
+          a = jauUtctai(2400000.5, utc2);
+          b = jauUtctai(2400000.5, utc2, t);
+          assertSame(t, b);
+          vvd(b.djm0, a.djm0, 0.0, "jauUtctai", "sink 1");
+          vvd(b.djm1, a.djm1, 0.0, "jauUtctai", "sink 2");
+
+          a = jauTaiutc(a.djm0, a.djm1);
+          jauTaiutc(t.djm0, t.djm1, t);
+          vvd(t.djm0, a.djm0, 0.0, "jauTaiutc", "sink 1");
+          vvd(t.djm1, a.djm1, 0.0, "jauTaiutc", "sink 2");
+
+          a = jauUtcut1(utc2, 2400000.5, 0.3341);
+          jauUtcut1(utc2, 2400000.5, 0.3341, t);
+          vvd(t.djm0, a.djm0, 0.0, "jauUtcut1", "sink 1");
+          vvd(t.djm1, a.djm1, 0.0, "jauUtcut1", "sink 2");
+
+          a = jauUt1utc(a.djm0, a.djm1, 0.3341);
+          jauUt1utc(t.djm0, t.djm1, 0.3341, t);
+          vvd(t.djm0, a.djm0, 0.0, "jauUt1utc", "sink 1");
+          vvd(t.djm1, a.djm1, 0.0, "jauUt1utc", "sink 2");
+       }
+
+       /* UTC to TAI to TT to TDB to TCB, and back, in one object. */
+       jauUtctai(2453750.5, 0.892100694, t);
+       jauTaitt(t.djm0, t.djm1, t);
+       vvd(t.djm1, 0.8928551384444444444, 1e-12, "jauTaitt", "sink");
+       jauTttdb(t.djm0, t.djm1, -0.000201, t);
+       jauTdbtcb(t.djm0, t.djm1, t);
+       a = jauTdbtcb(jauTttdb(2453750.5, 0.8928551384444444444, -0.000201).djm0,
+               jauTttdb(2453750.5, 0.8928551384444444444, -0.000201).djm1);
+       vvd(t.djm1, a.djm1, 1e-12, "jauTdbtcb", "sink");
+       jauTcbtdb(t.djm0, t.djm1, t);
+       jauTdbtt(t.djm0, t.djm1, -0.000201, t);
+       jauTttcg(t.djm0, t.djm1, t);
+       jauTcgtt(t.djm0, t.djm1, t);
+       jauTtut1(t.djm0, t.djm1, 64.8499, t);
+       jauUt1tt(t.djm0, t.djm1, 64.8499, t);
+       jauTttai(t.djm0, t.djm1, t);
+       jauTaiut1(t.djm0, t.djm1, -32.6659, t);
+       jauUt1tai(t.djm0, t.djm1, -32.6659, t);
+       jauTaiutc(t.djm0, t.djm1, t);
+       vvd(t.djm0, 2453750.5, 0.0, "jauTaiutc", "chain 1");
+       vvd(t.djm1, 0.892100694, 1e-12, "jauTaiutc", "chain 2");
+    }
+
+    @Test
+    public void t_timescales() throws JSOFAIllegalParameter, JSOFAInternalError
+    /*
+    **  Test TimeScales.convert against the single date functions.
+    */
+    {
+       final int n = 30000;
+       double u1[] = new double[n], u2[] = new double[n], o1[] = new double[n], o2[] = new double[n],
+              p1[] = new double[n], p2[] = new double[n], dut1 = -0.2751, dtr;
+       JulianDate t;
+       int i;
+
+
+       /* UTC from 1962 to 2024 in steps of about 0.77 days, then some either side of the leap second at the end of 2016 in 0.9 s steps, in MJD form
+          and JD form. */
+       for (i = 0; i < n; i++) {
+          u1[i] = 2400000.5;
+          u2[i] = i < 20000 ? 37665.0 + i * 1.1 * 0.7 : 57754.0 + (i - 25000) * 0.9 / DAYSEC;
+          if (i % 5 == 0) {
+             u1[i] = 2400000.5 + Math.floor(u2[i]);
+             u2[i] -= Math.floor(u2[i]);
+          }
+       }
+
+       TimeScales.convert(TimeScale.UTC, TimeScale.TDB, u1, u2, o1, o2);
+       TimeScales.convert(TimeScale.UTC, TimeScale.TDB, u1, u2, p1, p2, java.util.concurrent.ForkJoinPool.commonPool());
+       for (i = 0; i < n; i++) {
+          t = jauUtctai(u1[i], u2[i]);
+          t = jauTaitt(t.djm0, t.djm1);
+          dtr = jauDtdb(t.djm0, t.djm1, 0.0, 0.0, 0.0, 0.0);
+          t = jauTttdb(t.djm0, t.djm1, dtr);
+          vvd(o1[i], t.djm0, 0.0, "TimeScales", "UTC-TDB 1");
+          vvd(o2[i], t.djm1, 0.0, "TimeScales", "UTC-TDB 2");
+          vvd(p1[i], t.djm0, 0.0, "TimeScales", "UTC-TDB parallel 1");
+          vvd(p2[i], t.djm1, 0.0, "TimeScales", "UTC-TDB parallel 2");
+       }
+
+       TimeScales.convert(TimeScale.TT, TimeScale.UTC, u1, u2, o1, o2);
+       for (i = 0; i < n; i++) {
+          t = jauTttai(u1[i], u2[i]);
+          t = jauTaiutc(t.djm0, t.djm1);
+          vvd(o1[i], t.djm0, 0.0, "TimeScales", "TT-UTC 1");
+          vvd(o2[i], t.djm1, 0.0, "TimeScales", "TT-UTC 2");
+       }
+
+       TimeScales.convert(TimeScale.UT1, TimeScale.TCG, dut1, u1, u2, o1, o2);
+       for (i = 0; i < n; i += 7) {
+          t = jauUt1utc(u1[i], u2[i], dut1);
+          t = jauUtctai(t.djm0, t.djm1);
+          t = jauTaitt(t.djm0, t.djm1);
+          t = jauTttcg(t.djm0, t.djm1);
+          vvd(o1[i], t.djm0, 0.0, "TimeScales", "UT1-TCG 1");
+          vvd(o2[i], t.djm1, 0.0, "TimeScales", "UT1-TCG 2");
+       }
+
+       /* In place, and the identity. */
+       System.arraycopy(u1, 0, p1, 0, n);
+       System.arraycopy(u2, 0, p2, 0, n);
+       TimeScales.convert(TimeScale.TCB, TimeScale.TAI, p1, p2, p1, p2);
+       TimeScales.convert(TimeScale.TCB, TimeScale.TAI, u1, u2, o1, o2);
+       TimeScales.convert(TimeScale.TT, TimeScale.TT, o1, o2, o1, o2);
+       for (i = 0; i < n; i++) {
+          vvd(p1[i], o1[i], 0.0, "TimeScales", "in place 1");
+          vvd(p2[i], o2[i], 0.0, "TimeScales", "in place 2");
+       }
+
+       try {
+          TimeScales.convert(TimeScale.UT1, TimeScale.UTC, u1, u2, o1, o2);
+          fail("UT1 conversion without UT1-UTC");
+       } catch (JSOFAIllegalParameter e) {
+          // expected
+       }
+    }
+
     @Test
     public void t_utcut1() throws JSOFAIllegalParameter, JSOFAInternalError
     /**
@@ -5894,6 +6394,83 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_vec3mat3()
+    /*
+    **  Test the Vec3, PV and Mat3 value types against the array functions - the results must be identical.
+    */
+    {
+       double p[] = {0.3, 1.2, -2.5}, q[] = {-1.4, 0.7, 0.2};
+       double pv[][] = {{126668.5912743160601, 2136.792716839935195, -245251.2339876830091},
+                        {-0.4051854035740712739e-2, -0.6253919754866173866e-2, 0.1189353719774107189e-1}};
+       double pv2[][] = {{0.3, 1.2, -2.5}, {-0.5, 3.1, 0.9}};
+       double r[][] = jauC2t06a(2400000.5, 53736.0, 2400000.5, 53736.0, 2.55060238e-7, 1.860359247e-6);
+       Vec3 vp = Vec3.of(p), vq = Vec3.of(q);
+       PV pvv = PV.of(pv), pvv2 = PV.of(pv2);
+       Mat3 m = Mat3.of(r), m2 = Mat3.of(jauC2i06a(2400000.5, 53736.0));
+
+       vec3("Vec3 plus", vp.plus(vq), jauPpp(p, q));
+       vec3("Vec3 minus", vp.minus(vq), jauPmp(p, q));
+       vec3("Vec3 scale", vp.scale(1.7), jauSxp(1.7, p));
+       vec3("Vec3 cross", vp.cross(vq), jauPxp(p, q));
+       vec3("Vec3 unit", vp.unit(), jauPn(p).u);
+       vvd(vp.dot(vq), jauPdp(p, q), 0.0, "Vec3", "dot");
+       vvd(vp.norm(), jauPm(p), 0.0, "Vec3", "norm");
+       vec3("Vec3 fromSpherical", Vec3.fromSpherical(3.0123, -0.999), jauS2c(3.0123, -0.999));
+       SphericalCoordinate sc = jauC2s(p);
+       vvd(vp.theta(), sc.alpha, 0.0, "Vec3", "theta");
+       vvd(vp.phi(), sc.delta, 0.0, "Vec3", "phi");
+       assertEquals("Vec3 unit null", Vec3.ZERO, Vec3.ZERO.unit());
+
+       pv6("PV plus", pvv.plus(pvv2), jauPvppv(pv, pv2));
+       pv6("PV minus", pvv.minus(pvv2), jauPvmpv(pv, pv2));
+       pv6("PV update", pvv.update(2920.0), jauPvu(2920.0, pv));
+       pv6("PV cross", pvv.cross(pvv2), jauPvxpv(pv, pv2));
+       assertEquals("PV of/toArray", pvv, PV.of(pvv.toArray()));
+
+       mat3("Mat3 times", m.times(m2), jauRxr(r, jauC2i06a(2400000.5, 53736.0)));
+       mat3("Mat3 transpose", m.transpose(), jauTr(r));
+       vec3("Mat3 apply", m.apply(vp), jauRxp(r, p));
+       vec3("Mat3 applyTranspose", m.applyTranspose(vp), jauTrxp(r, p));
+       pv6("Mat3 apply pv", m.apply(pvv), jauRxpv(r, pv));
+       pv6("Mat3 applyTranspose pv", m.applyTranspose(pvv), jauTrxpv(r, pv));
+
+       mat3("Mat3 c2ixys", Mat3.c2ixys(0.5791308486706011000e-3, 0.4020579816732961219e-4, -0.1220040848472271978e-7),
+            jauC2ixys(0.5791308486706011000e-3, 0.4020579816732961219e-4, -0.1220040848472271978e-7));
+       mat3("Mat3 pom00", Mat3.pom00(2.55060238e-7, 1.860359247e-6, -0.1367174580728891460e-10),
+            jauPom00(2.55060238e-7, 1.860359247e-6, -0.1367174580728891460e-10));
+       mat3("Mat3 c2tcio", Mat3.c2tcio(m2, 1.75283325530307, Mat3.pom00(2.55060238e-7, 1.860359247e-6, 0.0)),
+            jauC2tcio(jauC2i06a(2400000.5, 53736.0), 1.75283325530307, jauPom00(2.55060238e-7, 1.860359247e-6, 0.0)));
+       mat3("Mat3 fw2m", Mat3.fw2m(-0.2243387670997992368e-5, 0.4091014602391312982, -0.9501954178013015092e-3, 0.4091014316587367472),
+            jauFw2m(-0.2243387670997992368e-5, 0.4091014602391312982, -0.9501954178013015092e-3, 0.4091014316587367472));
+       mat3("Mat3 pnm06a", Mat3.pnm06a(2400000.5, 50123.9999), jauPnm06a(2400000.5, 50123.9999));
+       mat3("Mat3 c2i06a", Mat3.c2i06a(2400000.5, 53736.0), jauC2i06a(2400000.5, 53736.0));
+       mat3("Mat3 c2t06a", Mat3.c2t06a(2400000.5, 53736.0, 2400000.5, 53736.0, 2.55060238e-7, 1.860359247e-6), r);
+       assertEquals("Mat3 of/toArray", m, Mat3.of(m.toArray()));
+       assertEquals("Mat3 hashCode", m.hashCode(), Mat3.of(m.toArray()).hashCode());
+       assertTrue("Mat3 equals", !m.equals(m2));
+    }
+
+    private void vec3(String func, Vec3 v, double p[])
+    {
+       vvd(v.x, p[0], 0.0, func, "x");
+       vvd(v.y, p[1], 0.0, func, "y");
+       vvd(v.z, p[2], 0.0, func, "z");
+    }
+
+    private void pv6(String func, PV v, double pv[][])
+    {
+       vec3(func, v.p(), pv[0]);
+       vec3(func, v.v(), pv[1]);
+    }
+
+    private void mat3(String func, Mat3 m, double r[][])
+    {
+       vec3(func, new Vec3(m.m00, m.m01, m.m02), r[0]);
+       vec3(func, new Vec3(m.m10, m.m11, m.m12), r[1]);
+       vec3(func, new Vec3(m.m20, m.m21, m.m22), r[2]);
+    }
+
     @Test
     public void t_xy06()
     /**
@@ -5986,6 +6563,45 @@ public class JSOFATest {
 
     }
 
+    @Test
+    public void t_cipinterpolator()
+    /*
+    **  Test CipInterpolator against jauXys06a and jauXys00a.
+    */
+    {
+       CipInterpolator ci = CipInterpolator.forXys06a(2400000.5 + 53700.0, 2400000.5 + 53750.3);
+       double xys[] = new double[3];
+
+       ICRFrame fr = ci.xys(2400000.5, 53736.0);
+       vvd(fr.cip.x,  0.5791308482835292617e-3, 1e-14, "CipInterpolator", "x");
+       vvd(fr.cip.y,  0.4020580099454020310e-4, 1e-15, "CipInterpolator", "y");
+       vvd(fr.s, -0.1220032294164579896e-7, 1e-18, "CipInterpolator", "s");
+       assertTrue("CipInterpolator error bound", ci.getErrorBound() < 1e-13);
+
+       for (double t = 53700.0; t <= 53750.3; t += 0.37) {
+          fr = jauXys06a(2400000.5, t);
+          ci.xys(2400000.5, t, xys);
+          vvd(xys[0], fr.cip.x, 1e-15, "CipInterpolator", "x06");
+          vvd(xys[1], fr.cip.y, 1e-15, "CipInterpolator", "y06");
+          vvd(xys[2], fr.s, 1e-15, "CipInterpolator", "s06");
+       }
+
+       ci = CipInterpolator.forXys00a(2451545.0, 2451545.0 + 30.0);
+       for (double t = 0.0; t <= 30.0; t += 0.41) {
+          fr = jauXys00a(2451545.0, t);
+          ci.xys(2451545.0, t, xys);
+          vvd(xys[0], fr.cip.x, 1e-15, "CipInterpolator", "x00");
+          vvd(xys[1], fr.cip.y, 1e-15, "CipInterpolator", "y00");
+          vvd(xys[2], fr.s, 1e-15, "CipInterpolator", "s00");
+       }
+
+       try {
+          ci.xys(2451545.0, 30.5);
+          fail("CipInterpolator should throw exception for date out of range");
+       } catch (JSOFAIllegalParameter e) {
+       }
+    }
+
     @Test
     public void t_zp()
     /**
@@ -6639,6 +7255,46 @@ public void t_apcg()
 
 }
 
+@Test
+    public void t_astromupdater() throws JSOFAIllegalParameter, JSOFAInternalError
+/*
+**  Test AstromUpdater against jauApco13 and jauAper13.
+*/
+{
+   double utc1 = 2456384.5, utc2 = 0.969254051, dut1 = 0.1550675, eo, ds = 1.0 / 86400.0;
+   Astrom astrom = new Astrom();
+   AstromUpdater up = new AstromUpdater(-0.527800806, -1.2345856, 2738.0, 2.47230737e-7, 1.82640464e-6,
+                                        731.0, 12.8, 0.59, 0.55);
+
+   /* First update is a full one. */
+   eo = up.update(utc1, utc2, dut1);
+   vvd(eo, jauApco13(utc1, utc2, dut1, -0.527800806, -1.2345856, 2738.0, 2.47230737e-7, 1.82640464e-6,
+                     731.0, 12.8, 0.59, 0.55, astrom), 0.0, "AstromUpdater", "eo");
+   vvd(up.getAstrom().eral, astrom.eral, 0.0, "AstromUpdater", "eral");
+   vvd(up.getAstrom().bpn[2][0], astrom.bpn[2][0], 0.0, "AstromUpdater", "bpn");
+
+   /* One second later only the Earth rotation angle changes. */
+   up.update(utc1, utc2 + ds, dut1);
+   JulianDate ut1 = jauUtcut1(utc1, utc2 + ds, dut1);
+   jauAper13(ut1.djm0, ut1.djm1, astrom);
+   vvd(up.getAstrom().eral, astrom.eral, 0.0, "AstromUpdater", "eral quick");
+   vvd(up.getAstrom().v[0], astrom.v[0], 0.0, "AstromUpdater", "v quick");
+
+   /* After the interval everything is recomputed. */
+   up.update(utc1, utc2 + 11 * ds, dut1);
+   jauApco13(utc1, utc2 + 11 * ds, dut1, -0.527800806, -1.2345856, 2738.0, 2.47230737e-7, 1.82640464e-6,
+             731.0, 12.8, 0.59, 0.55, astrom);
+   vvd(up.getAstrom().eral, astrom.eral, 0.0, "AstromUpdater", "eral full");
+   vvd(up.getAstrom().v[0], astrom.v[0], 0.0, "AstromUpdater", "v full");
+
+   /* Ambient conditions only change the refraction constants. */
+   up.setAmbient(600.0, 2.0, 0.2, 0.55);
+   RefCos ref = jauRefco(600.0, 2.0, 0.2, 0.55);
+   vvd(up.getAstrom().refa, ref.a, 0.0, "AstromUpdater", "refa");
+   vvd(up.getAstrom().refb, ref.b, 0.0, "AstromUpdater", "refb");
+   vvd(up.getAstrom().v[0], astrom.v[0], 0.0, "AstromUpdater", "v ambient");
+}
+
 @Test
     public void t_apcs()
 /**
@@ -7018,6 +7674,15 @@ public void t_apcg()
    vvd(co.alpha, 2.710121572968696744, 1e-12, "jauAtciq", "ri");
    vvd(co.delta, 0.1729371367219539137, 1e-12, "jauAtciq", "di");
 
+   double ri[] = new double[2], di[] = new double[2];
+   jauAtciq(new double[]{rc, 1.0}, new double[]{dc, -0.5}, new double[]{pr, 0.0}, new double[]{pd, 0.0},
+            new double[]{px, 0.0}, new double[]{rv, 0.0}, astrom, ri, di);
+   vvd(ri[0], co.alpha, 0.0, "jauAtciq", "ri[0]");
+   vvd(di[0], co.delta, 0.0, "jauAtciq", "di[0]");
+   co = jauAtciq(1.0, -0.5, 0.0, 0.0, 0.0, 0.0, astrom);
+   vvd(ri[1], co.alpha, 0.0, "jauAtciq", "ri[1]");
+   vvd(di[1], co.delta, 0.0, "jauAtciq", "di[1]");
+
 }
 
 
@@ -7159,6 +7824,55 @@ public void t_apcg()
 
 }
 
+@Test
+    public void t_epochcache() throws JSOFAIllegalParameter, JSOFAInternalError
+/*
+**  Test EpochCache against the functions it replaces - the results must be identical.
+*/
+{
+   double utc1 = 2456384.5, utc2 = 0.969254051, dut1 = 0.1550675,
+          elong = -0.527800806, phi = -1.2345856, hm = 2738.0, xp = 2.47230737e-7, yp = 1.82640464e-6,
+          phpa = 731.0, tc = 12.8, rh = 0.59, wl = 0.55;
+   EpochCache cache = new EpochCache(3);
+
+   for (int i = 0; i < 3; i++) {
+      double rc = 2.71 + 0.1 * i, dc = 0.174 - 0.05 * i;
+      ObservedPositionEO ope = jauAtco13(rc, dc, 1e-5, 5e-6, 0.1, 55.0, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl),
+            opc = cache.atco13(rc, dc, 1e-5, 5e-6, 0.1, 55.0, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+      vvd(opc.op.aob, ope.op.aob, 0.0, "EpochCache atco13", "aob");
+      vvd(opc.op.zob, ope.op.zob, 0.0, "EpochCache atco13", "zob");
+      vvd(opc.op.rob, ope.op.rob, 0.0, "EpochCache atco13", "rob");
+      vvd(opc.eo, ope.eo, 0.0, "EpochCache atco13", "eo");
+
+      SphericalCoordinateEO ce = jauAtci13(rc, dc, 1e-5, 5e-6, 0.1, 55.0, 2456165.5, 0.401182685),
+            cc = cache.atci13(rc, dc, 1e-5, 5e-6, 0.1, 55.0, 2456165.5, 0.401182685);
+      vvd(cc.pos.alpha, ce.pos.alpha, 0.0, "EpochCache atci13", "ri");
+      vvd(cc.pos.delta, ce.pos.delta, 0.0, "EpochCache atci13", "di");
+      vvd(cc.eo, ce.eo, 0.0, "EpochCache atci13", "eo");
+
+      double r[][] = jauC2t06a(2400000.5, 53736.0, 2400000.5, 53736.0 + 0.1 * i, xp, yp),
+             rcache[][] = cache.c2t06a(2400000.5, 53736.0, 2400000.5, 53736.0 + 0.1 * i, xp, yp, new double[3][3]);
+      for (int j = 0; j < 3; j++) {
+         for (int k = 0; k < 3; k++) {
+            vvd(rcache[j][k], r[j][k], 0.0, "EpochCache c2t06a", "r" + j + k);
+         }
+      }
+   }
+
+   /* Three TT dates, each used three times. */
+   viv((int)cache.getMisses(), 3, "EpochCache", "misses");
+   viv((int)cache.getHits(), 6, "EpochCache", "hits");
+
+   /* A fourth date replaces the first. */
+   cache.apci13(2456165.5, 0.5, new Astrom());
+   cache.apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, new Astrom());
+   viv((int)cache.getMisses(), 5, "EpochCache", "replaced");
+
+   cache.clear();
+   cache.apci13(2456165.5, 0.5, new Astrom());
+   viv((int)cache.getMisses(), 6, "EpochCache", "clear");
+}
+
 @Test
     public void t_atic13()
 /**
@@ -7216,6 +7930,14 @@ public void t_apcg()
    vvd(co.alpha, 2.710126504531716819, 1e-12, "jauAticq", "rc");
    vvd(co.delta, 0.1740632537627034482, 1e-12, "jauAticq", "dc");
 
+   double rc[] = new double[2], dc[] = new double[2];
+   jauAticq(new double[]{ri, 1.0}, new double[]{di, -0.5}, astrom, rc, dc);
+   vvd(rc[0], co.alpha, 0.0, "jauAticq", "rc[0]");
+   vvd(dc[0], co.delta, 0.0, "jauAticq", "dc[0]");
+   co = jauAticq(1.0, -0.5, astrom);
+   vvd(rc[1], co.alpha, 0.0, "jauAticq", "rc[1]");
+   vvd(dc[1], co.delta, 0.0, "jauAticq", "dc[1]");
+
 }
 
 @Test
@@ -7531,6 +8253,95 @@ public void t_atoi13() throws JSOFAIllegalParameter, JSOFAInternalError
 
 }
 
+@Test
+    public void t_atioqarray() throws JSOFAIllegalParameter, JSOFAInternalError
+/*
+**  Test the array versions of jauAtioq and jauAtoiq against the single target functions.
+*/
+{
+   final int n = 20;
+   double ri[] = new double[n], di[] = new double[n],
+          aob[] = new double[n], zob[] = new double[n], hob[] = new double[n],
+          dob[] = new double[n], rob[] = new double[n], r2[] = new double[n], d2[] = new double[n];
+   Astrom astrom = new Astrom() ;
+   int i;
+
+
+   jauApio13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+           2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, astrom);
+
+   for (i = 0; i < n; i++) {
+       ri[i] = 2.710121559857154 + 0.1 * i;
+       di[i] = 0.1729371839114567725 - 0.05 * i;
+   }
+   jauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+   for (i = 0; i < n; i++) {
+       ObservedPosition o = jauAtioq(ri[i], di[i], astrom);
+       vvd(aob[i], o.aob, 0.0, "jauAtioq", "array aob");
+       vvd(zob[i], o.zob, 0.0, "jauAtioq", "array zob");
+       vvd(hob[i], o.hob, 0.0, "jauAtioq", "array hob");
+       vvd(dob[i], o.dob, 0.0, "jauAtioq", "array dob");
+       vvd(rob[i], o.rob, 0.0, "jauAtioq", "array rob");
+   }
+
+   for (ObsType t : ObsType.values()) {
+       double ob1[] = t == ObsType.AZ_ZD ? aob : t == ObsType.HA_DEC ? hob : rob;
+       double ob2[] = t == ObsType.AZ_ZD ? zob : dob;
+       String s = t == ObsType.AZ_ZD ? "A" : t == ObsType.HA_DEC ? "h" : "r";
+       assertEquals(t, ObsType.of(s));
+       jauAtoiq(t, ob1, ob2, astrom, r2, d2);
+       for (i = 0; i < n; i++) {
+           SphericalCoordinate co = jauAtoiq(s, ob1[i], ob2[i], astrom);
+           vvd(r2[i], co.alpha, 0.0, "jauAtoiq", "array ri " + t);
+           vvd(d2[i], co.delta, 0.0, "jauAtoiq", "array di " + t);
+       }
+   }
+
+}
+
+@Test
+    public void t_refractiontable() throws JSOFAIllegalParameter, JSOFAInternalError
+/*
+**  Test RefractionTable against jauRefco and jauAtioq.
+*/
+{
+   final int n = 400;
+   double phpa = 731.0, tc = 12.8, rh = 0.59, wl = 0.55, ri[] = new double[n], di[] = new double[n],
+          aob[] = new double[n], zob[] = new double[n], hob[] = new double[n], dob[] = new double[n], rob[] = new double[n],
+          a2[] = new double[n], z2[] = new double[n], h2[] = new double[n], d2[] = new double[n], r2[] = new double[n];
+   Astrom astrom = new Astrom() ;
+   int i;
+
+
+   jauApio13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+           2.47230737e-7, 1.82640464e-6, phpa, tc, rh, wl, astrom);
+   RefractionTable table = new RefractionTable(phpa, tc, rh, wl);
+   vvd(table.getRefCos().a, astrom.refa, 0.0, "RefractionTable", "A");
+   vvd(table.getRefCos().b, astrom.refb, 0.0, "RefractionTable", "B");
+
+   /* Targets from the zenith to below the horizon. */
+   for (i = 0; i < n; i++) {
+       ri[i] = astrom.eral + 0.01 * i;
+       di[i] = -1.2345856 + 0.0047 * i;
+   }
+   jauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+   table.atioq(ri, di, astrom, a2, z2, h2, d2, r2);
+   for (i = 0; i < n; i++) {
+       vvd(z2[i], zob[i], 1e-10, "RefractionTable", "zob");
+       vvd(d2[i], dob[i], 1e-10, "RefractionTable", "dob");
+       vvd(r2[i], rob[i], 1e-9, "RefractionTable", "rob");
+   }
+
+   /* Small changes are ignored, larger ones rebuild. */
+   assertFalse(table.setAmbient(phpa + 0.05, tc - 0.05, rh + 0.005, wl));
+   assertEquals(1, table.getBuilds());
+   assertTrue(table.setAmbient(phpa + 0.2, tc, rh, wl));
+   assertTrue(table.setAmbient(phpa + 0.2, tc, rh, 0.6));
+   assertEquals(3, table.getBuilds());
+   vvd(table.getRefCos().a, jauRefco(phpa + 0.2, tc, rh, 0.6).a, 0.0, "RefractionTable", "rebuilt A");
+
+}
+
 @Test
     public void t_ld()
 /**
@@ -7754,6 +8565,55 @@ public void t_atoi13() throws JSOFAIllegalParameter, JSOFAInternalError
 
 }
 
+@Test
+    public void t_starpmbulk()
+/*
+**  Test the array versions of jauStarpm and jauPmsafe against the scalar versions.
+*/
+{
+   int n = 5000, j;
+   double ra1[] = new double[n], dec1[] = new double[n], pmr1[] = new double[n], pmd1[] = new double[n],
+          px1[] = new double[n], rv1[] = new double[n], ra2[] = new double[n], dec2[] = new double[n],
+          pmr2[] = new double[n], pmd2[] = new double[n], px2[] = new double[n], rv2[] = new double[n];
+   int status[] = new int[n];
+   java.util.Random r = new java.util.Random(42);
+   java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+
+   for (j = 0; j < n; j++) {
+      ra1[j] = r.nextDouble() * 6.28;
+      dec1[j] = (r.nextDouble() - 0.5) * 3.1;
+      pmr1[j] = (r.nextDouble() - 0.5) * 1e-4;
+      pmd1[j] = (r.nextDouble() - 0.5) * 1e-4;
+      px1[j] = (j % 10 == 0) ? 0.0 : r.nextDouble() * 0.5;
+      rv1[j] = (r.nextDouble() - 0.5) * 200.0;
+   }
+
+   for (int k = 0; k < 4; k++) {
+      boolean safe = k >= 2;
+      if (k == 0) jauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, 2400000.5, 50083.0, 2400000.5, 53736.0,
+                            ra2, dec2, pmr2, pmd2, px2, rv2, status);
+      if (k == 1) jauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, 2400000.5, 50083.0, 2400000.5, 53736.0,
+                            ra2, dec2, pmr2, pmd2, px2, rv2, status, pool);
+      if (k == 2) jauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, 2400000.5, 50083.0, 2400000.5, 53736.0,
+                            ra2, dec2, pmr2, pmd2, px2, rv2, status);
+      if (k == 3) jauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, 2400000.5, 50083.0, 2400000.5, 53736.0,
+                            ra2, dec2, pmr2, pmd2, px2, rv2, status, pool);
+      for (j = 0; j < n; j += 7) {
+         CatalogCoords cc = safe ? jauPmsafe(ra1[j], dec1[j], pmr1[j], pmd1[j], px1[j], rv1[j], 2400000.5, 50083.0, 2400000.5, 53736.0)
+                                 : jauStarpm(ra1[j], dec1[j], pmr1[j], pmd1[j], px1[j], rv1[j], 2400000.5, 50083.0, 2400000.5, 53736.0);
+         vvd(ra2[j], cc.pos.alpha, 0.0, "jauStarpm bulk", "ra2");
+         vvd(dec2[j], cc.pos.delta, 0.0, "jauStarpm bulk", "dec2");
+         vvd(pmr2[j], cc.pm.alpha, 0.0, "jauStarpm bulk", "pmr2");
+         vvd(pmd2[j], cc.pm.delta, 0.0, "jauStarpm bulk", "pmd2");
+         vvd(px2[j], cc.px, 0.0, "jauStarpm bulk", "px2");
+         vvd(rv2[j], cc.rv, 0.0, "jauStarpm bulk", "rv2");
+      }
+      viv(status[0], safe ? 0 : 3, "jauStarpm bulk", "status 0");
+      viv(status[1], 0, "jauStarpm bulk", "status 1");
+   }
+   pool.shutdown();
+}
+
 
 @Test
     public void t_pvtob() throws JSOFAIllegalParameter, JSOFAInternalError
@@ -7851,6 +8711,13 @@ public void t_d2dtf() throws JSOFAIllegalParameter, JSOFAInternalError
    viv(c.ihmsf[2], 60, "jauD2dtf", "s");
    viv(c.ihmsf[3], 13599, "jauD2dtf", "f");
 
+   try {
+      jauD2dtf("UTC", 5, -68569.0, 0.0);
+      fail("jauD2dtf should throw exception for a UTC year before 4800BC");
+   } catch (JSOFAIllegalParameter e) {
+      viv(e.getStatus(), -1, "jauD2dtf", "bad year");
+   }
+
 }
 
 
@@ -7881,6 +8748,187 @@ public void t_dtf2d() throws JSOFAIllegalParameter, JSOFAInternalError
 
 }
 
+/**
+**  Test the TimeScale and ObsType overloads of jauDtf2d, jauD2dtf, jauAtoiq,
+**  jauAtoi13 and jauAtoc13 against the String versions.
+*/
+@Test
+public void t_enumtypes() throws JSOFAIllegalParameter, JSOFAInternalError
+{
+   JulianDate jd = jauDtf2d(TimeScale.UTC, 1994, 6, 30, 23, 59, 60.13599);
+   JulianDate js = jauDtf2d("UTC", 1994, 6, 30, 23, 59, 60.13599);
+   vvd(jd.djm0, js.djm0, 0.0, "jauDtf2d", "UTC d1");
+   vvd(jd.djm1, js.djm1, 0.0, "jauDtf2d", "UTC d2");
+
+   jd = jauDtf2d(TimeScale.TT, 1994, 6, 30, 23, 59, 59.13599);
+   js = jauDtf2d("TT", 1994, 6, 30, 23, 59, 59.13599);
+   vvd(jd.djm0, js.djm0, 0.0, "jauDtf2d", "TT d1");
+   vvd(jd.djm1, js.djm1, 0.0, "jauDtf2d", "TT d2");
+
+   CalendarHMS c = jauD2dtf(TimeScale.UTC, 5, 2400000.5, 49533.99999);
+   viv(c.ihmsf[0], 23, "jauD2dtf", "UTC h");
+   viv(c.ihmsf[1], 59, "jauD2dtf", "UTC m");
+   viv(c.ihmsf[2], 60, "jauD2dtf", "UTC s");
+   viv(c.ihmsf[3], 13599, "jauD2dtf", "UTC f");
+
+   c = jauD2dtf(TimeScale.TAI, 5, 2400000.5, 49533.99999);
+   CalendarHMS cs = jauD2dtf("TAI", 5, 2400000.5, 49533.99999);
+   viv(c.id, cs.id, "jauD2dtf", "TAI d");
+   for (int i = 0; i < 4; i++) {
+       viv(c.ihmsf[i], cs.ihmsf[i], "jauD2dtf", "TAI ihmsf");
+   }
+
+   String types[] = {"R", "H", "A"};
+   ObsType enums[] = {ObsType.RA_DEC, ObsType.HA_DEC, ObsType.AZ_ZD};
+   for (int i = 0; i < types.length; i++) {
+       SphericalCoordinate ce = jauAtoi13(enums[i], 0.09233952224794989993, 1.407758704513722461,
+               2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+               2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+       SphericalCoordinate co = jauAtoi13(types[i], 0.09233952224794989993, 1.407758704513722461,
+               2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+               2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+       vvd(ce.alpha, co.alpha, 0.0, "jauAtoi13", types[i] + "/ri");
+       vvd(ce.delta, co.delta, 0.0, "jauAtoi13", types[i] + "/di");
+
+       ce = jauAtoc13(enums[i], 0.09233952224794989993, 1.407758704513722461,
+               2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+               2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+       co = jauAtoc13(types[i], 0.09233952224794989993, 1.407758704513722461,
+               2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+               2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+       vvd(ce.alpha, co.alpha, 0.0, "jauAtoc13", types[i] + "/rc");
+       vvd(ce.delta, co.delta, 0.0, "jauAtoc13", types[i] + "/dc");
+   }
+}
+
+
+/**
+**  Test Sexagesimal formatting against the int[] functions and parsing
+**  against jauAf2a, jauTf2a and jauTf2d.
+*/
+@Test
+public void t_sexagesimal() throws JSOFAIllegalParameter, JSOFAInternalError
+{
+   Sexagesimal fmt = new Sexagesimal(4);
+   StringBuilder sb = new StringBuilder();
+
+   assertEquals("+134:21:30.9706", fmt.formatDegrees(2.345, sb).toString());
+   sb.setLength(0);
+   assertEquals("-11:30:22.6484", fmt.formatHours(-3.01234, sb).toString());
+   sb.setLength(0);
+   assertEquals("-23:42:13.3333", fmt.formatTime(-0.987654321, sb).toString());
+   sb.setLength(0);
+   assertEquals("1996-02-10.9999", fmt.formatCalendar(2400000.5, 50123.9999, sb).toString());
+
+   Sexagesimal iso = new Sexagesimal(5);
+   sb.setLength(0);
+   assertEquals("1994-06-30T23:59:60.13599", iso.formatDate(TimeScale.UTC, 2400000.5, 49533.99999, sb).toString());
+   sb.setLength(0);
+   CalendarHMS c = jauD2dtf(TimeScale.TT, 5, 2400000.5, 49533.99999);
+   assertEquals(String.format("%04d-%02d-%02dT%02d:%02d:%02d.%05d", c.iy, c.im, c.id, c.ihmsf[0], c.ihmsf[1], c.ihmsf[2], c.ihmsf[3]),
+           iso.formatDate(TimeScale.TT, 2400000.5, 49533.99999, sb).toString());
+
+   char out[] = new char[40];
+   int n = new Sexagesimal(0, ' ').formatDegrees(-0.5, out, 2);
+   assertEquals("-28 38 52", new String(out, 2, n - 2));
+
+   java.nio.ByteBuffer bb = java.nio.ByteBuffer.allocate(64);
+   iso.formatDate(TimeScale.UTC, 2400000.5, 49533.99999, bb);
+   fmt.formatHours(-3.01234, bb.put((byte) ','));
+   assertEquals("1994-06-30T23:59:60.13599,-11:30:22.6484", new String(bb.array(), 0, bb.position(), java.nio.charset.StandardCharsets.US_ASCII));
+
+   vvd(Sexagesimal.parseDegrees("-45 13 27.2", 0, 11), -0.7893115794313644842, 1e-12, "Sexagesimal", "parseDegrees");
+   vvd(Sexagesimal.parseDegrees("-45 13 27.2", 0, 11), jauAf2a('-', 45, 13, 27.2), 0.0, "Sexagesimal", "parseDegrees exact");
+   vvd(Sexagesimal.parseHours(" 4:58:20.2 ", 0, 11), 1.301739278189537429, 1e-12, "Sexagesimal", "parseHours");
+   vvd(Sexagesimal.parseHours(" 4:58:20.2 ", 0, 11), jauTf2a('+', 4, 58, 20.2), 0.0, "Sexagesimal", "parseHours exact");
+   vvd(Sexagesimal.parseTime("23:55:10.9", 0, 10), 0.9966539351851851852, 1e-12, "Sexagesimal", "parseTime");
+   vvd(Sexagesimal.parseTime("12:00:01.12345678901234567", 0, 26), jauTf2d('+', 12, 0, 1.12345678901234567), 0.0, "Sexagesimal", "parseTime long");
+
+   bb = java.nio.ByteBuffer.wrap("ra=-11:30:22.6484;".getBytes(java.nio.charset.StandardCharsets.US_ASCII));
+   vvd(Sexagesimal.parseHours(bb, 3, 17), jauTf2a('-', 11, 30, 22.6484), 0.0, "Sexagesimal", "parseHours buffer");
+   viv(bb.position(), 0, "Sexagesimal", "buffer position");
+
+   java.util.Random r = new java.util.Random(11);
+   Sexagesimal fine = new Sexagesimal(9);
+   for (int i = 0; i < 1000; i++) {
+       double a = (r.nextDouble() - 0.5) * 6.0;
+       int idmsf[] = new int[4];
+       char sign = jauA2af(9, a, idmsf);
+       sb.setLength(0);
+       fine.formatDegrees(a, sb);
+       vvd(Sexagesimal.parseDegrees(sb, 0, sb.length()),
+               jauAf2a(sign, idmsf[0], idmsf[1], idmsf[2] + idmsf[3] / 1e9), 0.0, "Sexagesimal", "round trip");
+   }
+
+   try {
+       Sexagesimal.parseHours("12:3x:00", 0, 8);
+       fail("parseHours should throw for bad text");
+   } catch (JSOFAIllegalParameter e) {
+       viv(e.getStatus(), -1, "Sexagesimal", "bad text");
+   }
+   try {
+       Sexagesimal.parseHours("24:00:00", 0, 8);
+       fail("parseHours should throw for bad hour");
+   } catch (JSOFAIllegalParameter e) {
+       viv(e.getStatus(), 1, "Sexagesimal", "bad hour");
+   }
+}
+
+/**
+**  Test IsoDateParser against jauDtf2d, across a leap second and before 1972.
+*/
+@Test
+public void t_isodateparser() throws JSOFAIllegalParameter, JSOFAInternalError
+{
+   String text = "1994-06-30T23:59:60.13599,a\r\n"
+               + "\n"
+               + "  1994-07-01 00:00:00\n"
+               + "2017-03-15T12:34:56.789012345678901234\n"
+               + "1968-02-01T06:00:00.5\n"
+               + "2015-06-31T12:00:00\n"
+               + "2020-13-01T00:00:00\n"
+               + "2020-01-01T00:00\n"
+               + "2021-05-06\n";
+   int ymdhm[][] = {{1994, 6, 30, 23, 59}, {1994, 7, 1, 0, 0}, {2017, 3, 15, 12, 34}, {1968, 2, 1, 6, 0},
+                    {2015, 6, 31, 12, 0}};
+   double secs[] = {60.13599, 0.0, 56.789012345678901234, 0.5, 0.0};
+   java.nio.ByteBuffer bb = java.nio.ByteBuffer.wrap(text.getBytes(java.nio.charset.StandardCharsets.US_ASCII));
+   double d1[] = new double[8], d2[] = new double[8];
+   int status[] = new int[8];
+
+   viv(IsoDateParser.parseLines(TimeScale.UTC, bb, d1, d2, status), 8, "IsoDateParser", "rows");
+   viv(bb.position(), bb.limit(), "IsoDateParser", "position");
+   for (int i = 0; i < ymdhm.length; i++) {
+       JulianDate jd = jauDtf2d(TimeScale.UTC, ymdhm[i][0], ymdhm[i][1], ymdhm[i][2], ymdhm[i][3], ymdhm[i][4], secs[i]);
+       viv(status[i], 0, "IsoDateParser", "status");
+       vvd(d1[i], jd.djm0, 0.0, "IsoDateParser", "d1");
+       vvd(d2[i], jd.djm1, 0.0, "IsoDateParser", "d2");
+   }
+   vvd(d2[4], 0.4999942130299418, 1e-16, "IsoDateParser", "bad day");
+   viv(status[5], -2, "IsoDateParser", "bad month");
+   assertTrue(Double.isNaN(d1[5]));
+   viv(status[6], -7, "IsoDateParser", "bad text");
+   viv(status[7], 0, "IsoDateParser", "date only");
+   vvd(d1[7] + d2[7], 2459340.5, 0.0, "IsoDateParser", "date only");
+
+   /* Two lines at a time, throwing at the bad month. */
+   bb.position(0);
+   viv(IsoDateParser.parseLines(TimeScale.TT, bb, new double[2], new double[2], null), 2, "IsoDateParser", "section");
+   viv(bb.get(bb.position()), '2', "IsoDateParser", "section position");
+   try {
+       IsoDateParser.parseLines(TimeScale.TT, bb, d1, d2, null);
+       fail("IsoDateParser should throw for a bad month");
+   } catch (JSOFAIllegalParameter e) {
+       viv(e.getStatus(), -2, "IsoDateParser", "bad month thrown");
+   }
+
+   int offsets[] = {text.indexOf("2017"), text.indexOf("1994-07")};
+   IsoDateParser.parse(TimeScale.TAI, bb, offsets, d1, d2, null);
+   JulianDate jd = jauDtf2d(TimeScale.TAI, 2017, 3, 15, 12, 34, 56.789012345678901234);
+   vvd(d1[0], jd.djm0, 0.0, "IsoDateParser", "offsets d1");
+   vvd(d2[0], jd.djm1, 0.0, "IsoDateParser", "offsets d2");
+   vvd(d1[1] + d2[1], 2449534.5, 0.0, "IsoDateParser", "offsets second");
+}
 
 /**
 **